@@ -662,6 +662,30 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
         else if (RangeCodegenUtil.isPrimitiveNumberDownTo(loopRangeCallee)) {
             return new ForInDownToProgressionLoopGenerator(forExpression, loopRangeCall);
         }
+        else if (RangeCodegenUtil.isPrimitiveNumberUntil(loopRangeCallee)) {
+            return new ForInUntilRangeLoopGenerator(forExpression, loopRangeCall);
+        }
+        else if (RangeCodegenUtil.isPrimitiveProgressionReversed(loopRangeCallee)) {
+            ResolvedCall<? extends CallableDescriptor> progressionCall = getReceiverResolvedCall(loopRangeCall.getExtensionReceiver());
+            if (progressionCall != null) {
+                CallableDescriptor progressionCallee = progressionCall.getResultingDescriptor();
+                if (RangeCodegenUtil.isPrimitiveNumberRangeTo(progressionCallee) ||
+                    RangeCodegenUtil.isPrimitiveNumberDownTo(progressionCallee)) {
+                    return new ForInReversedRangeLiteralLoopGenerator(forExpression, progressionCall);
+                }
+            }
+        }
+        else if (RangeCodegenUtil.isPrimitiveProgressionStep(loopRangeCallee)) {
+            ResolvedCall<? extends CallableDescriptor> progressionCall = getReceiverResolvedCall(loopRangeCall.getExtensionReceiver());
+            if (progressionCall != null) {
+                CallableDescriptor progressionCallee = progressionCall.getResultingDescriptor();
+                if (RangeCodegenUtil.isPrimitiveNumberRangeTo(progressionCallee) ||
+                    RangeCodegenUtil.isPrimitiveNumberDownTo(progressionCallee) ||
+                    RangeCodegenUtil.isPrimitiveNumberUntil(progressionCallee)) {
+                    return new ForInSteppedProgressionLiteralLoopGenerator(forExpression, progressionCall, loopRangeCall);
+                }
+            }
+        }
         else if (RangeCodegenUtil.isArrayOrPrimitiveArrayIndices(loopRangeCallee)) {
             return new ForInArrayIndicesRangeLoopGenerator(forExpression, loopRangeCall);
         }
@@ -675,6 +699,22 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
         return null;
     }
 
+    @Nullable
+    private ResolvedCall<? extends CallableDescriptor> getReceiverResolvedCall(@Nullable ReceiverValue receiver) {
+        if (!(receiver instanceof ExpressionReceiver)) return null;
+        KtExpression expression = KtPsiUtil.deparenthesize(((ExpressionReceiver) receiver).getExpression());
+        return expression != null ? CallUtilKt.getResolvedCall(expression, bindingContext) : null;
+    }
+
+    @NotNull
+    private static ReceiverValue getRangeLiteralStart(@NotNull ResolvedCall<?> rangeLiteralCall) {
+        // 'rangeTo' is a member of primitive classes, while 'downTo' and 'until' are extensions
+        ReceiverValue dispatchReceiver = rangeLiteralCall.getDispatchReceiver();
+        ReceiverValue start = dispatchReceiver != null ? dispatchReceiver : rangeLiteralCall.getExtensionReceiver();
+        assert start != null : "Range literal should have a receiver: " + rangeLiteralCall.getResultingDescriptor();
+        return start;
+    }
+
     @NotNull
     private static KotlinType getExpectedReceiverType(@NotNull ResolvedCall<? extends CallableDescriptor> resolvedCall) {
         ReceiverParameterDescriptor extensionReceiver = resolvedCall.getResultingDescriptor().getExtensionReceiverParameter();
@@ -1071,6 +1111,24 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
         public void checkPreCondition(@NotNull Label loopExit) {
         }
 
+        // For 'a until b': exits if a >= b, otherwise replaces the end with b - 1, which can't overflow then
+        protected void checkEmptyUntilRangeAndMakeEndInclusive(@NotNull Label loopExit) {
+            loopParameter().put(asmElementType, v);
+            v.load(endVar, asmElementType);
+            if (asmElementType.getSort() == Type.LONG) {
+                v.lcmp();
+                v.ifge(loopExit);
+            }
+            else {
+                v.ificmpge(loopExit);
+            }
+
+            StackValue end = StackValue.local(endVar, asmElementType);
+            end.put(asmElementType, v);
+            genIncrement(asmElementType, -1, v);
+            end.store(StackValue.onStack(asmElementType), v);
+        }
+
         @NotNull
         protected StackValue loopParameter() {
             if (loopParameter == null) {
@@ -1179,6 +1237,190 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
         }
     }
 
+    private class ForInUntilRangeLoopGenerator extends AbstractForInRangeLoopGenerator {
+        private final ReceiverValue from;
+        private final KtExpression to;
+
+        private ForInUntilRangeLoopGenerator(@NotNull KtForExpression forExpression, @NotNull ResolvedCall<?> loopRangeCall) {
+            super(forExpression);
+            this.from = loopRangeCall.getExtensionReceiver();
+            this.to = getSingleArgumentExpression(loopRangeCall);
+        }
+
+        @Override
+        protected void storeRangeStartAndEnd() {
+            loopParameter().store(generateReceiverValue(from, false), v);
+            StackValue.local(endVar, asmElementType).store(gen(to), v);
+        }
+
+        @Override
+        public void checkEmptyLoop(@NotNull Label loopExit) {
+            checkEmptyUntilRangeAndMakeEndInclusive(loopExit);
+        }
+    }
+
+    // (a..b).reversed() is b downTo a, and (a downTo b).reversed() is b..a
+    private class ForInReversedRangeLiteralLoopGenerator extends AbstractForInRangeLoopGenerator {
+        private final ReceiverValue from;
+        private final KtExpression to;
+
+        private ForInReversedRangeLiteralLoopGenerator(@NotNull KtForExpression forExpression, @NotNull ResolvedCall<?> rangeLiteralCall) {
+            super(forExpression, RangeCodegenUtil.isPrimitiveNumberDownTo(rangeLiteralCall.getResultingDescriptor()) ? 1 : -1);
+            this.from = getRangeLiteralStart(rangeLiteralCall);
+            this.to = getSingleArgumentExpression(rangeLiteralCall);
+        }
+
+        @Override
+        protected void storeRangeStartAndEnd() {
+            StackValue.local(endVar, asmElementType).store(generateReceiverValue(from, false), v);
+            loopParameter().store(gen(to), v);
+        }
+    }
+
+    private class ForInSteppedProgressionLiteralLoopGenerator extends AbstractForInProgressionOrRangeLoopGenerator {
+        private final ReceiverValue from;
+        private final KtExpression to;
+        private final KtExpression step;
+        private final boolean isDownTo;
+        private final boolean isUntil;
+        private final Type stepType;
+
+        private int stepVar = -1;
+
+        private ForInSteppedProgressionLiteralLoopGenerator(
+                @NotNull KtForExpression forExpression,
+                @NotNull ResolvedCall<?> rangeLiteralCall,
+                @NotNull ResolvedCall<?> stepCall
+        ) {
+            super(forExpression);
+            CallableDescriptor rangeLiteralCallee = rangeLiteralCall.getResultingDescriptor();
+            this.from = getRangeLiteralStart(rangeLiteralCall);
+            this.to = getSingleArgumentExpression(rangeLiteralCall);
+            this.step = getSingleArgumentExpression(stepCall);
+            this.isDownTo = RangeCodegenUtil.isPrimitiveNumberDownTo(rangeLiteralCallee);
+            this.isUntil = RangeCodegenUtil.isPrimitiveNumberUntil(rangeLiteralCallee);
+            this.stepType = asmElementType.getSort() == Type.LONG ? Type.LONG_TYPE : Type.INT_TYPE;
+        }
+
+        @Override
+        public void beforeLoop() {
+            super.beforeLoop();
+
+            stepVar = createLoopTempVariable(stepType);
+
+            loopParameter().store(generateReceiverValue(from, false), v);
+            StackValue.local(endVar, asmElementType).store(gen(to), v);
+            StackValue.local(stepVar, stepType).store(gen(step), v);
+
+            checkStepIsPositive();
+        }
+
+        private void checkStepIsPositive() {
+            Label stepIsPositive = new Label();
+            v.load(stepVar, stepType);
+            if (stepType.getSort() == Type.LONG) {
+                v.lconst(0);
+                v.lcmp();
+            }
+            v.ifgt(stepIsPositive);
+
+            v.anew(Type.getObjectType("java/lang/IllegalArgumentException"));
+            v.dup();
+            genStringBuilderConstructor(v);
+            v.aconst("Step must be positive, was: ");
+            genInvokeAppendMethod(v, JAVA_STRING_TYPE);
+            v.load(stepVar, stepType);
+            genInvokeAppendMethod(v, stepType);
+            v.aconst(".");
+            genInvokeAppendMethod(v, JAVA_STRING_TYPE);
+            v.invokevirtual("java/lang/StringBuilder", "toString", "()Ljava/lang/String;", false);
+            v.invokespecial("java/lang/IllegalArgumentException", "<init>", "(Ljava/lang/String;)V", false);
+            v.athrow();
+
+            v.mark(stepIsPositive);
+        }
+
+        @Override
+        public void checkEmptyLoop(@NotNull Label loopExit) {
+            if (isUntil) {
+                checkEmptyUntilRangeAndMakeEndInclusive(loopExit);
+                return;
+            }
+
+            loopParameter().put(asmElementType, v);
+            v.load(endVar, asmElementType);
+            if (asmElementType.getSort() == Type.LONG) {
+                v.lcmp();
+                if (isDownTo) {
+                    v.iflt(loopExit);
+                }
+                else {
+                    v.ifgt(loopExit);
+                }
+            }
+            else {
+                if (isDownTo) {
+                    v.ificmplt(loopExit);
+                }
+                else {
+                    v.ificmpgt(loopExit);
+                }
+            }
+        }
+
+        @Override
+        protected void assignToLoopParameter() {
+        }
+
+        @Override
+        protected void increment(@NotNull Label loopExit) {
+            StackValue loopParameter = loopParameter();
+
+            // The distance to the end is computed modulo 2^32 (2^64 for longs) and compared with the step as an unsigned number,
+            // so that the loop parameter is never incremented past the end, and neither of the operations can overflow
+            if (isDownTo) {
+                loopParameter.put(asmElementType, v);
+                v.load(endVar, asmElementType);
+            }
+            else {
+                v.load(endVar, asmElementType);
+                loopParameter.put(asmElementType, v);
+            }
+            v.sub(stepType);
+            flipSignBit();
+            v.load(stepVar, stepType);
+            flipSignBit();
+            if (stepType.getSort() == Type.LONG) {
+                v.lcmp();
+                v.iflt(loopExit);
+            }
+            else {
+                v.ificmplt(loopExit);
+            }
+
+            loopParameter.put(asmElementType, v);
+            v.load(stepVar, stepType);
+            if (isDownTo) {
+                v.sub(stepType);
+            }
+            else {
+                v.add(stepType);
+            }
+            StackValue.coerce(stepType, asmElementType, v);
+            loopParameter.store(StackValue.onStack(asmElementType), v);
+        }
+
+        private void flipSignBit() {
+            if (stepType.getSort() == Type.LONG) {
+                v.lconst(Long.MIN_VALUE);
+            }
+            else {
+                v.iconst(Integer.MIN_VALUE);
+            }
+            v.xor(stepType);
+        }
+    }
+
     private class ForInRangeInstanceLoopGenerator extends AbstractForInRangeLoopGenerator {
         private ForInRangeInstanceLoopGenerator(@NotNull KtForExpression forExpression) {
             super(forExpression);
@@ -1555,20 +1797,20 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
             return StackValue.operation(JAVA_STRING_TYPE, new Function1<InstructionAdapter, Unit>() {
                 @Override
                 public Unit invoke(InstructionAdapter v) {
-                    genStringBuilderConstructor(v);
+                    StringConcatGenerator generator = StringConcatGenerator.create(state, v);
+                    generator.genStringBuilderConstructorIfNeeded(false);
                     for (KtStringTemplateEntry entry : entries) {
                         if (entry instanceof KtStringTemplateEntryWithExpression) {
-                            invokeAppend(entry.getExpression());
+                            invokeAppend(generator, entry.getExpression());
                         }
                         else {
                             String text = entry instanceof KtEscapeStringTemplateEntry
                                           ? ((KtEscapeStringTemplateEntry) entry).getUnescapedValue()
                                           : entry.getText();
-                            v.aconst(text);
-                            genInvokeAppendMethod(v, JAVA_STRING_TYPE);
+                            generator.addStringConstant(text);
                         }
                     }
-                    v.invokevirtual("java/lang/StringBuilder", "toString", "()Ljava/lang/String;", false);
+                    generator.genToString();
                     return Unit.INSTANCE;
                 }
             });
@@ -2254,7 +2496,7 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
 
         // If generating body for named block-bodied function or Unit-typed coroutine lambda, generate it as sequence of statements
         Type typeForExpression =
-                isBlockedNamedFunction || isVoidCoroutineLambda
+                (isBlockedNamedFunction && !endsWithUnitTailCallInSuspendFunction((KtBlockExpression) expr)) || isVoidCoroutineLambda
                 ? Type.VOID_TYPE
                 : returnType;
 
@@ -2277,6 +2519,23 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
         }
     }
 
+    // A Unit suspend function without a state machine returns the result of its last statement, which is a tail call
+    // of a Unit suspend function, as is: it is either Unit or COROUTINE_SUSPENDED
+    private boolean endsWithUnitTailCallInSuspendFunction(@NotNull KtBlockExpression body) {
+        FunctionDescriptor functionDescriptor = context.getFunctionDescriptor();
+        if (!functionDescriptor.isSuspend() || CoroutineCodegenUtilKt.isStateMachineNeeded(functionDescriptor, bindingContext)) {
+            return false;
+        }
+
+        KotlinType originalReturnType = CoroutineCodegenUtilKt.unwrapInitialDescriptorForSuspendFunction(functionDescriptor).getReturnType();
+        if (originalReturnType == null || !KotlinBuiltIns.isUnit(originalReturnType)) return false;
+
+        List<KtExpression> statements = body.getStatements();
+        if (statements.isEmpty()) return false;
+        KotlinType lastStatementType = expressionJetType(statements.get(statements.size() - 1));
+        return lastStatementType != null && KotlinBuiltIns.isUnit(lastStatementType);
+    }
+
     private static boolean endsWithReturn(KtElement bodyExpression) {
         if (bodyExpression instanceof KtBlockExpression) {
             List<KtExpression> statements = ((KtBlockExpression) bodyExpression).getStatements();
@@ -2694,6 +2953,18 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
             return genClosure((KtNamedFunction) expression, samType);
         }
 
+        if (SamConversionsViaIndyKt.canGenerateSamConversionViaIndy(samType, context, state)) {
+            return StackValue.operation(typeMapper.mapType(samType.getType()), new Function1<InstructionAdapter, Unit>() {
+                @Override
+                public Unit invoke(InstructionAdapter v) {
+                    Type functionType = typeMapper.mapType(samType.getKotlinFunctionType());
+                    expression.accept(visitor, StackValue.none()).put(functionType, v);
+                    SamConversionsViaIndyKt.genSamConversionViaIndy(samType, functionType, typeMapper, v);
+                    return null;
+                }
+            });
+        }
+
         final Type asmType =
                 state.getSamWrapperClasses().getSamWrapperClass(samType, expression.getContainingKtFile(), this);
 
@@ -3277,6 +3548,9 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
                     v.checkcast(type);
                 }
             }
+            else if (areAllNonSpreadArgumentsConstant(arguments)) {
+                genSpreadWithArrayCopy(arguments, outType, type, elementType);
+            }
             else {
                 String owner;
                 String addDescriptor;
@@ -3331,6 +3605,92 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
         }
     }
 
+    private boolean areAllNonSpreadArgumentsConstant(@NotNull List<ValueArgument> arguments) {
+        for (ValueArgument argument : arguments) {
+            if (argument.getSpreadElement() != null) continue;
+
+            KtExpression expression = argument.getArgumentExpression();
+            if (expression == null || getCompileTimeConstant(expression, bindingContext, state.getShouldInlineConstVals()) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Spread arrays are evaluated in order and saved to temporary variables, so the size of the resulting array is known
+    // before it's created. Constant arguments have no side effects and can be generated after all the spread arrays.
+    private void genSpreadWithArrayCopy(
+            @NotNull List<ValueArgument> arguments,
+            @NotNull KotlinType outType,
+            @NotNull Type type,
+            @NotNull Type elementType
+    ) {
+        List<Integer> spreadIndices = new ArrayList<Integer>();
+        int constantArgumentsCount = 0;
+        for (ValueArgument argument : arguments) {
+            if (argument.getSpreadElement() != null) {
+                int spreadIndex = myFrameMap.enterTemp(type);
+                gen(argument.getArgumentExpression(), type);
+                v.store(spreadIndex, type);
+                spreadIndices.add(spreadIndex);
+            }
+            else {
+                constantArgumentsCount++;
+            }
+        }
+
+        v.iconst(constantArgumentsCount);
+        for (int spreadIndex : spreadIndices) {
+            v.load(spreadIndex, type);
+            v.arraylength();
+            v.add(Type.INT_TYPE);
+        }
+        newArrayInstruction(outType);
+
+        int resultIndex = myFrameMap.enterTemp(type);
+        int positionIndex = myFrameMap.enterTemp(Type.INT_TYPE);
+        v.store(resultIndex, type);
+        v.iconst(0);
+        v.store(positionIndex, Type.INT_TYPE);
+
+        Iterator<Integer> spreadIndicesIterator = spreadIndices.iterator();
+        for (ValueArgument argument : arguments) {
+            if (argument.getSpreadElement() != null) {
+                int spreadIndex = spreadIndicesIterator.next();
+
+                // System.arraycopy(spread, 0, result, position, spread.length)
+                v.load(spreadIndex, type);
+                v.iconst(0);
+                v.load(resultIndex, type);
+                v.load(positionIndex, Type.INT_TYPE);
+                v.load(spreadIndex, type);
+                v.arraylength();
+                v.invokestatic("java/lang/System", "arraycopy", "(Ljava/lang/Object;ILjava/lang/Object;II)V", false);
+
+                v.load(positionIndex, Type.INT_TYPE);
+                v.load(spreadIndex, type);
+                v.arraylength();
+                v.add(Type.INT_TYPE);
+                v.store(positionIndex, Type.INT_TYPE);
+            }
+            else {
+                v.load(resultIndex, type);
+                v.load(positionIndex, Type.INT_TYPE);
+                StackValue rightSide = gen(argument.getArgumentExpression());
+                StackValue.arrayElement(elementType, StackValue.onStack(type), StackValue.onStack(Type.INT_TYPE)).store(rightSide, v);
+                v.iinc(positionIndex, 1);
+            }
+        }
+
+        v.load(resultIndex, type);
+
+        myFrameMap.leaveTemp(Type.INT_TYPE);
+        myFrameMap.leaveTemp(type);
+        for (int i = 0; i < spreadIndices.size(); i++) {
+            myFrameMap.leaveTemp(type);
+        }
+    }
+
     public int indexOfLocalNotDelegated(KtReferenceExpression lhs) {
         DeclarationDescriptor declarationDescriptor = bindingContext.get(REFERENCE_TARGET, lhs);
         if (isVarCapturedInClosure(bindingContext, declarationDescriptor)) {
@@ -3964,7 +4324,7 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
         }
     }
 
-    public void invokeAppend(KtExpression expr) {
+    public void invokeAppend(@NotNull StringConcatGenerator generator, KtExpression expr) {
         ConstantValue<?> compileTimeConstant = getPrimitiveOrStringCompileTimeConstant(expr, bindingContext, state.getShouldInlineConstVals());
 
         if (compileTimeConstant == null && expr instanceof KtBinaryExpression) {
@@ -3975,8 +4335,8 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
                 Type leftType = expressionType(left);
 
                 if (leftType.equals(JAVA_STRING_TYPE)) {
-                    invokeAppend(left);
-                    invokeAppend(right);
+                    invokeAppend(generator, left);
+                    invokeAppend(generator, right);
                     return;
                 }
             }
@@ -3984,11 +4344,12 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
 
         Type exprType = expressionType(expr);
         if (compileTimeConstant != null) {
-            StackValue.constant(compileTimeConstant.getValue(), exprType).put(exprType, v);
+            generator.addConstantValue(compileTimeConstant.getValue(), exprType);
         } else {
+            generator.prepareArgument(exprType);
             gen(expr, exprType);
+            generator.invokeAppend(exprType);
         }
-        genInvokeAppendMethod(v, exprType.getSort() == Type.ARRAY ? OBJECT_TYPE : exprType);
     }
 
     @Nullable
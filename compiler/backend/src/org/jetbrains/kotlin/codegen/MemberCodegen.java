@@ -496,7 +496,7 @@ public abstract class MemberCodegen<T extends KtPureElement/* TODO: & KtDeclarat
 
         StackValue provideDelegateReceiver = codegen.gen(initializer);
 
-        int indexOfDelegatedProperty = PropertyCodegen.indexOfDelegatedProperty(property);
+        int indexOfDelegatedProperty = PropertyCodegen.indexOfDelegatedProperty(property, state);
 
         StackValue delegateValue = PropertyCodegen.invokeDelegatedPropertyConventionMethodWithReceiver(
                 codegen, typeMapper, provideDelegateResolvedCall, indexOfDelegatedProperty, 1,
@@ -584,7 +584,7 @@ public abstract class MemberCodegen<T extends KtPureElement/* TODO: & KtDeclarat
         for (KtDeclaration declaration : ((KtDeclarationContainer) element).getDeclarations()) {
             if (declaration instanceof KtProperty) {
                 KtProperty property = (KtProperty) declaration;
-                if (property.hasDelegate()) {
+                if (property.hasDelegate() && PropertyCodegen.isDelegatedPropertyMetadataRequired(property, state)) {
                     delegatedProperties.add(property);
                 }
             }
@@ -18,8 +18,10 @@ package org.jetbrains.kotlin.codegen;
 
 import com.intellij.openapi.util.Pair;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.util.PsiTreeUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.kotlin.builtins.KotlinBuiltIns;
 import org.jetbrains.kotlin.codegen.annotation.AnnotatedWithFakeAnnotations;
 import org.jetbrains.kotlin.codegen.context.*;
 import org.jetbrains.kotlin.codegen.state.GenerationState;
@@ -31,14 +33,18 @@ import org.jetbrains.kotlin.descriptors.annotations.AnnotationUseSiteTarget;
 import org.jetbrains.kotlin.descriptors.annotations.Annotations;
 import org.jetbrains.kotlin.fileClasses.JvmFileClassUtilKt;
 import org.jetbrains.kotlin.load.java.JvmAbi;
+import org.jetbrains.kotlin.name.FqName;
+import org.jetbrains.kotlin.name.Name;
 import org.jetbrains.kotlin.psi.*;
 import org.jetbrains.kotlin.psi.psiUtil.PsiUtilsKt;
 import org.jetbrains.kotlin.resolve.BindingContext;
 import org.jetbrains.kotlin.resolve.DescriptorFactory;
 import org.jetbrains.kotlin.resolve.DescriptorToSourceUtils;
+import org.jetbrains.kotlin.resolve.DescriptorUtils;
 import org.jetbrains.kotlin.resolve.annotations.AnnotationUtilKt;
 import org.jetbrains.kotlin.resolve.calls.model.ResolvedCall;
 import org.jetbrains.kotlin.resolve.constants.ConstantValue;
+import org.jetbrains.kotlin.resolve.inline.InlineUtil;
 import org.jetbrains.kotlin.resolve.jvm.diagnostics.JvmDeclarationOriginKt;
 import org.jetbrains.kotlin.resolve.jvm.jvmSignature.JvmMethodGenericSignature;
 import org.jetbrains.kotlin.resolve.jvm.jvmSignature.JvmMethodSignature;
@@ -46,6 +52,7 @@ import org.jetbrains.kotlin.serialization.deserialization.descriptors.Deserializ
 import org.jetbrains.kotlin.storage.LockBasedStorageManager;
 import org.jetbrains.kotlin.types.ErrorUtils;
 import org.jetbrains.kotlin.types.KotlinType;
+import org.jetbrains.kotlin.util.OperatorNameConventions;
 import org.jetbrains.org.objectweb.asm.FieldVisitor;
 import org.jetbrains.org.objectweb.asm.MethodVisitor;
 import org.jetbrains.org.objectweb.asm.Opcodes;
@@ -69,6 +76,8 @@ import static org.jetbrains.kotlin.resolve.jvm.annotations.AnnotationUtilKt.hasJ
 import static org.jetbrains.org.objectweb.asm.Opcodes.*;
 
 public class PropertyCodegen {
+    private static final FqName LAZY_FQ_NAME = KotlinBuiltIns.BUILT_INS_PACKAGE_FQ_NAME.child(Name.identifier("Lazy"));
+
     private final GenerationState state;
     private final ClassBuilder v;
     private final FunctionCodegen functionCodegen;
@@ -442,7 +451,9 @@ public class PropertyCodegen {
         FunctionGenerationStrategy strategy;
         if (accessor == null || !accessor.hasBody()) {
             if (p instanceof KtProperty && ((KtProperty) p).hasDelegate()) {
-                strategy = new DelegatedPropertyAccessorStrategy(state, accessorDescriptor, indexOfDelegatedProperty((KtProperty) p));
+                strategy = new DelegatedPropertyAccessorStrategy(
+                        state, accessorDescriptor, indexOfDelegatedProperty((KtProperty) p, state)
+                );
             }
             else {
                 strategy = new DefaultPropertyAccessorStrategy(state, accessorDescriptor);
@@ -455,7 +466,11 @@ public class PropertyCodegen {
         functionCodegen.generateMethod(JvmDeclarationOriginKt.OtherOrigin(accessor != null ? accessor : p, accessorDescriptor), accessorDescriptor, strategy);
     }
 
-    public static int indexOfDelegatedProperty(@NotNull KtProperty property) {
+    /**
+     * @return the index of the metadata of the given property in the $$delegatedProperties array of its container,
+     * or -1 if no metadata is generated for it (see {@link #isDelegatedPropertyMetadataRequired})
+     */
+    public static int indexOfDelegatedProperty(@NotNull KtProperty property, @NotNull GenerationState state) {
         PsiElement parent = property.getParent();
         KtDeclarationContainer container;
         if (parent instanceof KtClassBody) {
@@ -475,16 +490,79 @@ public class PropertyCodegen {
         int index = 0;
         for (KtDeclaration declaration : container.getDeclarations()) {
             if (declaration instanceof KtProperty && ((KtProperty) declaration).hasDelegate()) {
+                boolean isMetadataRequired = isDelegatedPropertyMetadataRequired((KtProperty) declaration, state);
                 if (declaration == property) {
-                    return index;
+                    return isMetadataRequired ? index : -1;
+                }
+                if (isMetadataRequired) {
+                    index++;
                 }
-                index++;
             }
         }
 
         throw new IllegalStateException("Delegated property not found in its parent: " + PsiUtilsKt.getElementTextWithContext(property));
     }
 
+    /**
+     * The KProperty instance for a delegated property is only needed if some of its convention methods (getValue, setValue,
+     * provideDelegate) may use it. Inline methods which are known not to use it are passed null instead, unless they are
+     * called without inlining because of -Xno-inline.
+     */
+    public static boolean isDelegatedPropertyMetadataRequired(@NotNull KtProperty property, @NotNull GenerationState state) {
+        BindingContext bindingContext = state.getBindingContext();
+        VariableDescriptor descriptor = bindingContext.get(BindingContext.VARIABLE, property);
+        if (!(descriptor instanceof PropertyDescriptor)) return true;
+        PropertyDescriptor propertyDescriptor = (PropertyDescriptor) descriptor;
+
+        // provideDelegate is optional, while getValue and setValue are always resolved in correct code
+        ResolvedCall<FunctionDescriptor> provideDelegateCall = bindingContext.get(BindingContext.PROVIDE_DELEGATE_RESOLVED_CALL, propertyDescriptor);
+        if (provideDelegateCall != null && usesPropertyMetadata(provideDelegateCall, state)) return true;
+
+        for (PropertyAccessorDescriptor accessor : propertyDescriptor.getAccessors()) {
+            ResolvedCall<FunctionDescriptor> accessorCall = bindingContext.get(BindingContext.DELEGATED_PROPERTY_RESOLVED_CALL, accessor);
+            if (accessorCall == null || usesPropertyMetadata(accessorCall, state)) return true;
+        }
+
+        return false;
+    }
+
+    private static boolean usesPropertyMetadata(@NotNull ResolvedCall<FunctionDescriptor> conventionCall, @NotNull GenerationState state) {
+        FunctionDescriptor function = conventionCall.getResultingDescriptor().getOriginal();
+        if (!function.isInline()) return true;
+        // With inlining disabled, the function is called as is, and its parameter assertions don't allow null
+        if (state.isInlineDisabled() && !InlineUtil.containsReifiedTypeParameters(function)) return true;
+
+        List<ValueParameterDescriptor> parameters = function.getValueParameters();
+        if (parameters.size() < 2) return true;
+        String metadataParameterName = parameters.get(1).getName().asString();
+
+        if (isLazyGetValue(function)) return false;
+
+        PsiElement declaration = DescriptorToSourceUtils.descriptorToDeclaration(function);
+        if (!(declaration instanceof KtNamedFunction)) return true;
+
+        for (KtSimpleNameExpression reference : PsiTreeUtil.findChildrenOfType(declaration, KtSimpleNameExpression.class)) {
+            if (metadataParameterName.equals(reference.getReferencedName())) return true;
+        }
+
+        return false;
+    }
+
+    // kotlin.getValue(Lazy<T>, Any?, KProperty<*>) just returns the value of the receiver
+    private static boolean isLazyGetValue(@NotNull FunctionDescriptor function) {
+        if (!OperatorNameConventions.GET_VALUE.equals(function.getName())) return false;
+
+        DeclarationDescriptor container = function.getContainingDeclaration();
+        if (!(container instanceof PackageFragmentDescriptor) ||
+            !KotlinBuiltIns.BUILT_INS_PACKAGE_FQ_NAME.equals(((PackageFragmentDescriptor) container).getFqName())) {
+            return false;
+        }
+
+        ReceiverParameterDescriptor receiver = function.getExtensionReceiverParameter();
+        if (receiver == null) return false;
+        ClassifierDescriptor receiverClassifier = receiver.getType().getConstructor().getDeclarationDescriptor();
+        return receiverClassifier != null && LAZY_FQ_NAME.equals(DescriptorUtils.getFqNameSafe(receiverClassifier));
+    }
 
     private static class DefaultPropertyAccessorStrategy extends FunctionGenerationStrategy.CodegenBased {
         private final PropertyAccessorDescriptor propertyAccessorDescriptor;
@@ -552,8 +630,14 @@ public class PropertyCodegen {
                            codegen.getState().getTypeMapper().mapOwner(propertyDescriptor)  :
                            getDelegatedPropertyMetadataOwner(codegen, typeMapper);
 
+        KtElement propertyMetadataArgument = resolvedCall.getCall().getValueArguments().get(propertyMetadataArgumentIndex).asElement();
+        if (indexInPropertyMetadataArray < 0) {
+            codegen.tempVariables.put(propertyMetadataArgument, StackValue.constant(null, K_PROPERTY_TYPE));
+            return codegen.invokeFunction(resolvedCall, receiver);
+        }
+
         codegen.tempVariables.put(
-                resolvedCall.getCall().getValueArguments().get(propertyMetadataArgumentIndex).asElement(),
+                propertyMetadataArgument,
                 new StackValue(K_PROPERTY_TYPE) {
                     @Override
                     public void putSelector(@NotNull Type type, @NotNull InstructionAdapter v) {
@@ -145,7 +145,15 @@ public class RangeCodegenUtil {
     }
 
     public static boolean isPrimitiveNumberDownTo(@NotNull CallableDescriptor descriptor) {
-        if (!isTopLevelInPackage(descriptor, "downTo", "kotlin.ranges")) return false;
+        return isPrimitiveNumberRangeExtension(descriptor, "downTo");
+    }
+
+    public static boolean isPrimitiveNumberUntil(@NotNull CallableDescriptor descriptor) {
+        return isPrimitiveNumberRangeExtension(descriptor, "until");
+    }
+
+    private static boolean isPrimitiveNumberRangeExtension(@NotNull CallableDescriptor descriptor, @NotNull String name) {
+        if (!isTopLevelInPackage(descriptor, name, "kotlin.ranges")) return false;
 
         ReceiverParameterDescriptor extensionReceiver = descriptor.getExtensionReceiverParameter();
         if (extensionReceiver == null) return false;
@@ -155,6 +163,24 @@ public class RangeCodegenUtil {
         return true;
     }
 
+    public static boolean isPrimitiveProgressionReversed(@NotNull CallableDescriptor descriptor) {
+        return isPrimitiveProgressionExtension(descriptor, "reversed");
+    }
+
+    public static boolean isPrimitiveProgressionStep(@NotNull CallableDescriptor descriptor) {
+        return isPrimitiveProgressionExtension(descriptor, "step");
+    }
+
+    private static boolean isPrimitiveProgressionExtension(@NotNull CallableDescriptor descriptor, @NotNull String name) {
+        if (!isTopLevelInPackage(descriptor, name, "kotlin.ranges")) return false;
+
+        ReceiverParameterDescriptor extensionReceiver = descriptor.getExtensionReceiverParameter();
+        if (extensionReceiver == null) return false;
+        if (!isProgression(extensionReceiver.getType())) return false;
+
+        return true;
+    }
+
     public static boolean isArrayOrPrimitiveArrayIndices(@NotNull CallableDescriptor descriptor) {
         if (!isTopLevelInPackage(descriptor, "indices", "kotlin.collections")) return false;
 
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2010-2017 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen
+
+import org.jetbrains.kotlin.codegen.state.GenerationState
+import org.jetbrains.kotlin.resolve.jvm.AsmTypes
+import org.jetbrains.kotlin.resolve.jvm.AsmTypes.JAVA_STRING_TYPE
+import org.jetbrains.org.objectweb.asm.Handle
+import org.jetbrains.org.objectweb.asm.Opcodes
+import org.jetbrains.org.objectweb.asm.Type
+import org.jetbrains.org.objectweb.asm.commons.InstructionAdapter
+
+/**
+ * Generates concatenation of strings and values either with an explicit [StringBuilder] chain, or with a single invokedynamic call site
+ * bootstrapped by `StringConcatFactory.makeConcatWithConstants` (available since Java 9), in which case constant parts are folded
+ * into the recipe. Usage: [genStringBuilderConstructorIfNeeded], then any number of [addStringConstant], [addConstantValue],
+ * [putValueOrProcessConstant] or [prepareArgument] followed by [invokeAppend], then [genToString].
+ */
+class StringConcatGenerator(private val useIndy: Boolean, private val v: InstructionAdapter) {
+    private val recipe = StringBuilder()
+    private val argumentTypes = arrayListOf<Type>()
+    private val constants = arrayListOf<String>()
+    private var argumentSlots = 0
+    private var recipeLength = 0
+
+    fun genStringBuilderConstructorIfNeeded(swap: Boolean = false) {
+        if (useIndy) return
+
+        AsmUtil.genStringBuilderConstructor(v)
+        if (swap) {
+            v.swap()
+        }
+    }
+
+    fun addStringConstant(value: String) {
+        if (!useIndy) {
+            v.aconst(value)
+            AsmUtil.genInvokeAppendMethod(v, JAVA_STRING_TYPE)
+            return
+        }
+
+        // Tag characters can't be a part of the recipe, so such strings are passed as separate constants, as well as the strings
+        // which don't fit into the recipe even after the call site is split
+        val length = encodedLength(value)
+        if (value.indexOf(TAG_ARGUMENT) >= 0 || value.indexOf(TAG_CONSTANT) >= 0 || length >= MAX_RECIPE_LENGTH) {
+            ensureRecipeCapacity(1)
+            recipe.append(TAG_CONSTANT)
+            recipeLength++
+            constants.add(value)
+        }
+        else {
+            ensureRecipeCapacity(length)
+            recipe.append(value)
+            recipeLength += length
+        }
+    }
+
+    /**
+     * Must be called before the code putting a value of the given type on the stack is generated, see [invokeAppend].
+     */
+    fun prepareArgument(type: Type) {
+        if (useIndy && argumentSlots + type.appendType().size > MAX_ARGUMENT_SLOTS) {
+            splitCallSite()
+        }
+        else {
+            ensureRecipeCapacity(1)
+        }
+    }
+
+    /**
+     * Appends the value put on the stack after the call to [prepareArgument].
+     */
+    fun invokeAppend(type: Type) {
+        if (!useIndy) {
+            AsmUtil.genInvokeAppendMethod(v, type.appendType())
+            return
+        }
+
+        addArgument(type.appendType())
+    }
+
+    fun putValueOrProcessConstant(value: StackValue, type: Type) {
+        prepareArgument(type)
+        value.put(type, v)
+        invokeAppend(type)
+    }
+
+    /**
+     * Appends a compile-time constant, which becomes a part of the recipe in the invokedynamic mode.
+     */
+    fun addConstantValue(value: Any?, type: Type) {
+        if (useIndy && (value is String || value is Char || value is Boolean ||
+                        value is Int || value is Long || value is Short || value is Byte)) {
+            addStringConstant(value.toString())
+            return
+        }
+
+        putValueOrProcessConstant(StackValue.constant(value, type), type)
+    }
+
+    fun genToString() {
+        if (!useIndy) {
+            v.invokevirtual("java/lang/StringBuilder", "toString", "()Ljava/lang/String;", false)
+            return
+        }
+
+        v.invokedynamic(
+                "makeConcatWithConstants",
+                Type.getMethodDescriptor(JAVA_STRING_TYPE, *argumentTypes.toTypedArray()),
+                MAKE_CONCAT_WITH_CONSTANTS,
+                arrayOf<Any>(recipe.toString()) + constants
+        )
+
+        recipe.setLength(0)
+        argumentTypes.clear()
+        constants.clear()
+        argumentSlots = 0
+        recipeLength = 0
+    }
+
+    private fun ensureRecipeCapacity(length: Int) {
+        if (useIndy && recipeLength + length > MAX_RECIPE_LENGTH) {
+            splitCallSite()
+        }
+    }
+
+    // The call site can't take more arguments or a longer recipe, so the result so far becomes the first argument of the next one
+    private fun splitCallSite() {
+        genToString()
+        addArgument(JAVA_STRING_TYPE)
+    }
+
+    private fun addArgument(type: Type) {
+        recipe.append(TAG_ARGUMENT)
+        recipeLength++
+        argumentTypes.add(type)
+        argumentSlots += type.size
+    }
+
+    private fun Type.appendType(): Type = if (sort == Type.ARRAY) AsmTypes.OBJECT_TYPE else this
+
+    companion object {
+        private const val TAG_ARGUMENT = '\u0001'
+        private const val TAG_CONSTANT = '\u0002'
+
+        // StringConcatFactory doesn't accept more than 200 parameter slots
+        private const val MAX_ARGUMENT_SLOTS = 200
+
+        // The recipe is stored in the constant pool, where strings can't take more than 65535 bytes in the modified UTF-8 encoding
+        private const val MAX_RECIPE_LENGTH = 65535
+
+        private val MAKE_CONCAT_WITH_CONSTANTS = Handle(
+                Opcodes.H_INVOKESTATIC,
+                "java/lang/invoke/StringConcatFactory",
+                "makeConcatWithConstants",
+                "(Ljava/lang/invoke/MethodHandles\$Lookup;Ljava/lang/String;Ljava/lang/invoke/MethodType;" +
+                "Ljava/lang/String;[Ljava/lang/Object;)Ljava/lang/invoke/CallSite;"
+        )
+
+        private fun encodedLength(value: String): Int {
+            var length = 0
+            for (c in value) {
+                length += when (c) {
+                    in '\u0001'..'\u007f' -> 1
+                    in '\u0000'..'\u07ff' -> 2
+                    else -> 3
+                }
+            }
+            return length
+        }
+
+        @JvmStatic
+        fun create(state: GenerationState, v: InstructionAdapter): StringConcatGenerator =
+                StringConcatGenerator(state.generateStringConcatViaIndy, v)
+    }
+}
@@ -165,7 +165,7 @@ fun FunctionDescriptor.isStateMachineNeeded(bindingContext: BindingContext) =
         isSuspendLambda || containsNonTailSuspensionCalls(bindingContext)
 
 fun FunctionDescriptor.containsNonTailSuspensionCalls(bindingContext: BindingContext) =
-        bindingContext[BindingContext.CONTAINS_NON_TAIL_SUSPEND_CALLS, original] == true
+        bindingContext[BindingContext.CONTAINS_NON_TAIL_SUSPEND_CALLS_EXCEPT_LAST_UNIT_CALL, original] == true
 
 fun CallableDescriptor.isSuspendFunctionNotSuspensionView(): Boolean {
     if (this !is FunctionDescriptor) return false
@@ -18,8 +18,6 @@ package org.jetbrains.kotlin.codegen.intrinsics
 
 import com.intellij.psi.PsiElement
 import org.jetbrains.kotlin.codegen.*
-import org.jetbrains.kotlin.codegen.AsmUtil.genInvokeAppendMethod
-import org.jetbrains.kotlin.codegen.AsmUtil.genStringBuilderConstructor
 import org.jetbrains.kotlin.lexer.KtTokens
 import org.jetbrains.kotlin.psi.KtBinaryExpression
 import org.jetbrains.kotlin.psi.KtCallableReferenceExpression
@@ -40,22 +38,23 @@ class Concat : IntrinsicMethod() {
             arguments: List<KtExpression>,
             receiver: StackValue
     ): Type {
+        val generator = StringConcatGenerator.create(codegen.state, v)
         if (element is KtBinaryExpression && element.operationReference.getReferencedNameElementType() == KtTokens.PLUS) {
             // LHS + RHS
-            genStringBuilderConstructor(v)
-            codegen.invokeAppend(element.left)
-            codegen.invokeAppend(element.right)
+            generator.genStringBuilderConstructorIfNeeded()
+            codegen.invokeAppend(generator, element.left)
+            codegen.invokeAppend(generator, element.right)
         }
         else {
             // Explicit plus call LHS?.plus(RHS) or LHS.plus(RHS)
+            generator.prepareArgument(AsmTypes.JAVA_STRING_TYPE)
             receiver.put(AsmTypes.JAVA_STRING_TYPE, v)
-            genStringBuilderConstructor(v)
-            v.swap()
-            genInvokeAppendMethod(v, returnType)
-            codegen.invokeAppend(arguments[0])
+            generator.genStringBuilderConstructorIfNeeded(swap = true)
+            generator.invokeAppend(returnType)
+            codegen.invokeAppend(generator, arguments[0])
         }
 
-        v.invokevirtual("java/lang/StringBuilder", "toString", "()Ljava/lang/String;", false)
+        generator.genToString()
         return JAVA_STRING_TYPE
     }
 
@@ -60,6 +60,7 @@ class BoxedValueDescriptor(
 ) {
     private val associatedInsns = HashSet<AbstractInsnNode>()
     private val unboxingWithCastInsns = HashSet<Pair<AbstractInsnNode, Type>>()
+    private val comparisonInsns = HashSet<AbstractInsnNode>()
     private val associatedVariables = HashSet<Int>()
     private val mergedWith = HashSet<BoxedValueDescriptor>()
 
@@ -72,6 +73,13 @@ class BoxedValueDescriptor(
         associatedInsns.add(insnNode)
     }
 
+    fun addComparisonInsn(insnNode: AbstractInsnNode) {
+        comparisonInsns.add(insnNode)
+    }
+
+    fun getComparisonInsns(): Set<AbstractInsnNode> =
+            comparisonInsns
+
     fun addVariableIndex(index: Int) {
         associatedVariables.add(index)
     }
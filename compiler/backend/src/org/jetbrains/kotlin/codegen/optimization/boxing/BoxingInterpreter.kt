@@ -19,6 +19,7 @@ package org.jetbrains.kotlin.codegen.optimization.boxing
 import com.google.common.collect.ImmutableSet
 import org.jetbrains.kotlin.codegen.AsmUtil
 import org.jetbrains.kotlin.codegen.RangeCodegenUtil
+import org.jetbrains.kotlin.codegen.intrinsics.IntrinsicMethods
 import org.jetbrains.kotlin.codegen.optimization.common.OptimizationBasicInterpreter
 import org.jetbrains.kotlin.codegen.optimization.common.StrictBasicValue
 import org.jetbrains.kotlin.name.FqName
@@ -74,6 +75,10 @@ open class BoxingInterpreter(private val insnList: InsnList) : OptimizationBasic
                                           ?: throw AssertionError("firstArg should be progression iterator")
                 createNewBoxing(insn, AsmUtil.boxType(progressionIterator.valuesPrimitiveType), progressionIterator)
             }
+            insn.isPureComparisonOfBoxedValues(values) -> {
+                onPureComparisonOfBoxedValues(insn, values[0] as BoxedBasicValue, values[1] as BoxedBasicValue)
+                value
+            }
             else -> {
                 // N-ary operation should be a method call or multinewarray.
                 // Arguments for multinewarray could be only numeric,
@@ -126,6 +131,7 @@ open class BoxingInterpreter(private val insnList: InsnList) : OptimizationBasic
     protected open fun onNewBoxedValue(value: BoxedBasicValue) {}
     protected open fun onUnboxing(insn: AbstractInsnNode, value: BoxedBasicValue, resultType: Type) {}
     protected open fun onMethodCallWithBoxedValue(value: BoxedBasicValue) {}
+    protected open fun onPureComparisonOfBoxedValues(insn: AbstractInsnNode, v: BoxedBasicValue, w: BoxedBasicValue) {}
     protected open fun onMergeFail(value: BoxedBasicValue) {}
     protected open fun onMergeSuccess(v: BoxedBasicValue, w: BoxedBasicValue) {}
 
@@ -204,6 +210,50 @@ private fun AbstractInsnNode.isIteratorMethodCallOfProgression(values: List<Basi
             name == "iterator"
         }
 
+// Intrinsics.areEqual and compareTo of two wrappers of the same primitive type neither leak nor mutate their arguments,
+// so they can be replaced with a primitive comparison when both boxes are removed
+fun AbstractInsnNode.isPureComparisonOfBoxedValues(values: List<BasicValue>): Boolean {
+    if (values.size != 2) return false
+    val (first, second) = values
+    if (first !is BoxedBasicValue || second !is BoxedBasicValue) return false
+
+    val unboxedType = first.descriptor.unboxedType
+    if (unboxedType != second.descriptor.unboxedType) return false
+
+    return isAreEqualIntrinsic() && unboxedType.sort in EQUALS_COMPARABLE_SORTS ||
+           isCompareToMethodCall(first.type) && unboxedType.sort in ORDER_COMPARABLE_SORTS
+}
+
+fun AbstractInsnNode.isAreEqualIntrinsic() =
+        isMethodInsnWith(Opcodes.INVOKESTATIC) {
+            owner == IntrinsicMethods.INTRINSICS_CLASS_NAME &&
+            name == "areEqual" &&
+            desc == AREEQUAL_DESCRIPTOR
+        }
+
+private fun AbstractInsnNode.isCompareToMethodCall(boxedType: Type) =
+        isMethodInsnWith(Opcodes.INVOKEVIRTUAL) {
+            owner == boxedType.internalName &&
+            name == "compareTo" &&
+            desc == Type.getMethodDescriptor(Type.INT_TYPE, boxedType)
+        } ||
+        isMethodInsnWith(Opcodes.INVOKEINTERFACE) {
+            owner == COMPARABLE_INTERNAL_NAME &&
+            name == "compareTo" &&
+            desc == COMPARABLE_COMPARE_TO_DESCRIPTOR
+        }
+
+private val AREEQUAL_DESCRIPTOR = Type.getMethodDescriptor(Type.BOOLEAN_TYPE, AsmTypes.OBJECT_TYPE, AsmTypes.OBJECT_TYPE)
+private val COMPARABLE_COMPARE_TO_DESCRIPTOR = Type.getMethodDescriptor(Type.INT_TYPE, AsmTypes.OBJECT_TYPE)
+
+val COMPARABLE_INTERNAL_NAME: String = Type.getInternalName(Comparable::class.java)
+
+private val EQUALS_COMPARABLE_SORTS =
+        ImmutableSet.of(Type.BOOLEAN, Type.CHAR, Type.BYTE, Type.SHORT, Type.INT, Type.FLOAT, Type.LONG, Type.DOUBLE)
+
+private val ORDER_COMPARABLE_SORTS =
+        ImmutableSet.of(Type.CHAR, Type.BYTE, Type.SHORT, Type.INT, Type.FLOAT, Type.LONG, Type.DOUBLE)
+
 private fun isProgressionClass(internalClassName: String) =
         RangeCodegenUtil.isRangeOrProgression(buildFqNameByInternal(internalClassName))
 
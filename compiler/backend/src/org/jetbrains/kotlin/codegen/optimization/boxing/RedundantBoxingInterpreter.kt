@@ -88,6 +88,17 @@ internal class RedundantBoxingInterpreter(insnList: InsnList) : BoxingInterprete
         markValueAsDirty(value)
     }
 
+    override fun onPureComparisonOfBoxedValues(insn: AbstractInsnNode, v: BoxedBasicValue, w: BoxedBasicValue) {
+        // The comparison can be rewritten only if both operands are unboxed, so they share their fate
+        candidatesBoxedValues.merge(v.descriptor, w.descriptor)
+
+        for (value in listOf(v, w)) {
+            value.descriptor.run {
+                if (isSafeToRemove) addComparisonInsn(insn)
+            }
+        }
+    }
+
     override fun onMergeFail(value: BoxedBasicValue) {
         markValueAsDirty(value)
     }
@@ -126,6 +137,8 @@ internal class RedundantBoxingInterpreter(insnList: InsnList) : BoxingInterprete
                         true
                     Type.getInternalName(Number::class.java) ->
                         PRIMITIVE_TYPES_SORTS_WITH_WRAPPER_EXTENDS_NUMBER.contains(value.descriptor.unboxedType.sort)
+                    COMPARABLE_INTERNAL_NAME ->
+                        value.descriptor.unboxedType.sort != Type.OBJECT
                     else ->
                         value.type.internalName == targetInternalName
                 }
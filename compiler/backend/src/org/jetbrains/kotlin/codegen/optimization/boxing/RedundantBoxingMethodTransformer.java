@@ -16,12 +16,15 @@
 
 package org.jetbrains.kotlin.codegen.optimization.boxing;
 
+import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.util.Pair;
 import kotlin.collections.CollectionsKt;
 import kotlin.jvm.functions.Function1;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.kotlin.codegen.intrinsics.IntrinsicMethods;
 import org.jetbrains.kotlin.codegen.optimization.common.StrictBasicValue;
 import org.jetbrains.kotlin.codegen.optimization.transformer.MethodTransformer;
+import org.jetbrains.org.objectweb.asm.Label;
 import org.jetbrains.org.objectweb.asm.Opcodes;
 import org.jetbrains.org.objectweb.asm.Type;
 import org.jetbrains.org.objectweb.asm.commons.InstructionAdapter;
@@ -32,6 +35,7 @@ import org.jetbrains.org.objectweb.asm.tree.analysis.Frame;
 import java.util.*;
 
 public class RedundantBoxingMethodTransformer extends MethodTransformer {
+    private static final Logger LOG = Logger.getInstance(RedundantBoxingMethodTransformer.class);
 
     @Override
     public void transform(@NotNull String internalClassName, @NotNull MethodNode node) {
@@ -50,7 +54,11 @@ public class RedundantBoxingMethodTransformer extends MethodTransformer {
 
             applyVariablesRemapping(node, buildVariablesRemapping(valuesToOptimize, node));
 
-            adaptInstructionsForBoxedValues(node, valuesToOptimize);
+            int removedValuesCount = adaptInstructionsForBoxedValues(node, valuesToOptimize);
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Removed " + removedValuesCount + " boxed value(s) in " + internalClassName + "." + node.name + node.desc);
+            }
         }
     }
 
@@ -236,13 +244,27 @@ public class RedundantBoxingMethodTransformer extends MethodTransformer {
         }
     }
 
-    private static void adaptInstructionsForBoxedValues(
+    private static int adaptInstructionsForBoxedValues(
             @NotNull MethodNode node,
             @NotNull RedundantBoxedValuesCollection values
     ) {
+        int count = 0;
+        Map<AbstractInsnNode, Type> comparisons = new LinkedHashMap<AbstractInsnNode, Type>();
         for (BoxedValueDescriptor value : values) {
             adaptInstructionsForBoxedValue(node, value);
+
+            for (AbstractInsnNode insn : value.getComparisonInsns()) {
+                comparisons.put(insn, value.getUnboxedType());
+            }
+            count++;
         }
+
+        // Both operands of a comparison are registered in the comparison, so it should be adapted only once
+        for (Map.Entry<AbstractInsnNode, Type> comparison : comparisons.entrySet()) {
+            adaptComparisonInstruction(node, comparison.getKey(), comparison.getValue());
+        }
+
+        return count;
     }
 
     private static void adaptInstructionsForBoxedValue(@NotNull MethodNode node, @NotNull BoxedValueDescriptor value) {
@@ -301,6 +323,69 @@ public class RedundantBoxingMethodTransformer extends MethodTransformer {
         node.instructions.remove(castInsn);
     }
 
+    private static void adaptComparisonInstruction(
+            @NotNull MethodNode node,
+            @NotNull AbstractInsnNode comparisonInsn,
+            @NotNull Type unboxedType
+    ) {
+        MethodNode comparisonInsnsListener = new MethodNode(Opcodes.ASM5);
+        InstructionAdapter iv = new InstructionAdapter(comparisonInsnsListener);
+
+        if (BoxingInterpreterKt.isAreEqualIntrinsic(comparisonInsn)) {
+            // Comparison of primitives results in zero exactly when their wrappers are equal, including NaN and -0.0 cases
+            genPrimitiveComparison(iv, unboxedType, true);
+
+            Label notEqual = new Label();
+            Label end = new Label();
+            iv.ifne(notEqual);
+            iv.iconst(1);
+            iv.goTo(end);
+            iv.mark(notEqual);
+            iv.iconst(0);
+            iv.mark(end);
+        }
+        else {
+            genPrimitiveComparison(iv, unboxedType, false);
+        }
+
+        for (AbstractInsnNode insn : comparisonInsnsListener.instructions.toArray()) {
+            node.instructions.insertBefore(comparisonInsn, insn);
+        }
+
+        node.instructions.remove(comparisonInsn);
+    }
+
+    private static void genPrimitiveComparison(@NotNull InstructionAdapter iv, @NotNull Type type, boolean onlyEquality) {
+        switch (type.getSort()) {
+            case Type.BOOLEAN:
+            case Type.CHAR:
+            case Type.BYTE:
+            case Type.SHORT:
+                // Same as Character/Byte/Short.compareTo, which can't overflow
+                iv.sub(Type.INT_TYPE);
+                break;
+            case Type.INT:
+                if (onlyEquality) {
+                    iv.sub(Type.INT_TYPE);
+                }
+                else {
+                    iv.invokestatic(IntrinsicMethods.INTRINSICS_CLASS_NAME, "compare", "(II)I", false);
+                }
+                break;
+            case Type.LONG:
+                iv.lcmp();
+                break;
+            case Type.FLOAT:
+                iv.invokestatic("java/lang/Float", "compare", "(FF)I", false);
+                break;
+            case Type.DOUBLE:
+                iv.invokestatic("java/lang/Double", "compare", "(DD)I", false);
+                break;
+            default:
+                throw new AssertionError("Unexpected type of compared boxed values: " + type);
+        }
+    }
+
     private static void adaptInstruction(
             @NotNull MethodNode node, @NotNull AbstractInsnNode insn, @NotNull BoxedValueDescriptor value
     ) {
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2010-2017 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen
+
+import org.jetbrains.kotlin.codegen.context.CodegenContext
+import org.jetbrains.kotlin.codegen.state.GenerationState
+import org.jetbrains.kotlin.codegen.state.KotlinTypeMapper
+import org.jetbrains.kotlin.incremental.components.NoLookupLocation
+import org.jetbrains.kotlin.resolve.inline.InlineUtil
+import org.jetbrains.kotlin.util.OperatorNameConventions
+import org.jetbrains.org.objectweb.asm.Handle
+import org.jetbrains.org.objectweb.asm.Label
+import org.jetbrains.org.objectweb.asm.Opcodes
+import org.jetbrains.org.objectweb.asm.Type
+import org.jetbrains.org.objectweb.asm.commons.InstructionAdapter
+
+private val LAMBDA_METAFACTORY = Handle(
+        Opcodes.H_INVOKESTATIC,
+        "java/lang/invoke/LambdaMetafactory",
+        "metafactory",
+        "(Ljava/lang/invoke/MethodHandles\$Lookup;Ljava/lang/String;Ljava/lang/invoke/MethodType;" +
+        "Ljava/lang/invoke/MethodType;Ljava/lang/invoke/MethodHandle;Ljava/lang/invoke/MethodType;)Ljava/lang/invoke/CallSite;"
+)
+
+/**
+ * A value of a function type can be converted to a SAM interface by an invokedynamic call site bootstrapped with
+ * `LambdaMetafactory.metafactory`, which implements the interface method by a call to `invoke` of the function, instead of
+ * an instance of a SAM wrapper class (see [SamWrapperCodegen]).
+ *
+ * This is not done in inline functions, because the inliner doesn't transform invokedynamic instructions, and for interface methods
+ * which override other methods, because the metafactory wouldn't generate bridges for them.
+ */
+fun canGenerateSamConversionViaIndy(samType: SamType, context: CodegenContext<*>, state: GenerationState): Boolean =
+        state.generateSamConversionsViaIndy &&
+        !InlineUtil.isInlineOrContainingInline(context.contextDescriptor) &&
+        samType.abstractMethod.original.overriddenDescriptors.isEmpty()
+
+/**
+ * Converts the nullable function value on top of the stack to an instance of the SAM interface, or to null.
+ */
+fun genSamConversionViaIndy(samType: SamType, functionAsmType: Type, typeMapper: KotlinTypeMapper, v: InstructionAdapter) {
+    val samAsmType = typeMapper.mapType(samType.type)
+    val samMethod = typeMapper.mapAsmMethod(samType.abstractMethod.original)
+    val invokeFunction = samType.kotlinFunctionType.memberScope
+            .getContributedFunctions(OperatorNameConventions.INVOKE, NoLookupLocation.FROM_BACKEND).first().original
+    val invokeMethod = typeMapper.mapAsmMethod(invokeFunction)
+
+    val ifNonNull = Label()
+    val afterAll = Label()
+
+    v.dup()
+    v.ifnonnull(ifNonNull)
+    v.pop()
+    v.aconst(null)
+    v.goTo(afterAll)
+
+    v.mark(ifNonNull)
+    val samMethodType = Type.getMethodType(samMethod.descriptor)
+    v.invokedynamic(
+            samMethod.name,
+            Type.getMethodDescriptor(samAsmType, functionAsmType),
+            LAMBDA_METAFACTORY,
+            arrayOf(
+                    samMethodType,
+                    Handle(Opcodes.H_INVOKEINTERFACE, functionAsmType.internalName, invokeMethod.name, invokeMethod.descriptor),
+                    samMethodType
+            )
+    )
+
+    v.mark(afterAll)
+}
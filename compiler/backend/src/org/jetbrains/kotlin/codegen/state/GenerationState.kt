@@ -126,6 +126,8 @@ class GenerationState @JvmOverloads constructor(
     val isJvm8Target: Boolean = configuration.get(JVMConfigurationKeys.JVM_TARGET) == JvmTarget.JVM_1_8
     val isJvm8TargetWithDefaults: Boolean =  isJvm8Target && configuration.getBoolean(JVMConfigurationKeys.JVM8_TARGET_WITH_DEFAULTS)
     val generateDefaultImplsForJvm8: Boolean = configuration.getBoolean(JVMConfigurationKeys.INTERFACE_COMPATIBILITY)
+    val generateSamConversionsViaIndy: Boolean = isJvm8Target && configuration.getBoolean(JVMConfigurationKeys.SAM_CONVERSIONS_VIA_INDY)
+    val generateStringConcatViaIndy: Boolean = isJvm8Target && configuration.getBoolean(JVMConfigurationKeys.STRING_CONCAT_VIA_INDY)
 
     val moduleName: String = moduleName ?: JvmCodegenUtil.getModuleName(module)
     val classBuilderMode: ClassBuilderMode = builderFactory.classBuilderMode
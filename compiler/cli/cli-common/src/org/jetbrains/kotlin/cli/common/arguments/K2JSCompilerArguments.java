@@ -71,6 +71,9 @@ public class K2JSCompilerArguments extends CommonCompilerArguments {
     @ValueDescription("<path>")
     public String outputPostfix;
 
+    @Argument(value = "Xremove-unreachable-declarations", description = "Remove top-level declarations which are unreachable from exported ones and main function call")
+    public boolean removeUnreachableDeclarations;
+
     @Override
     @NotNull
     public String executableScriptFileName() {
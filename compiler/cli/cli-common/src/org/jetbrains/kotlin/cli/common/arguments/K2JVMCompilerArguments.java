@@ -110,6 +110,18 @@ public class K2JVMCompilerArguments extends CommonCompilerArguments {
     @Argument(value = "Xload-builtins-from-dependencies", description = "Load definitions of built-in declarations from module dependencies, instead of from the compiler")
     public boolean loadBuiltInsFromDependencies;
 
+    @Argument(value = "Xlazy-member-deserialization", description = "Parse metadata of top-level functions and properties from libraries only when they are used")
+    public boolean lazyMemberDeserialization;
+
+    @Argument(value = "Xparallel-parsing", description = "Build syntax trees of all source files in several threads before analysis")
+    public boolean parallelParsing;
+
+    @Argument(value = "Xindy-sam-conversions", description = "Convert function values to Java SAM interfaces through invokedynamic instead of wrapper classes (with -jvm-target 1.8)")
+    public boolean indySamConversions;
+
+    @Argument(value = "Xindy-string-concat", description = "Concatenate strings through invokedynamic with StringConcatFactory (with -jvm-target 1.8, requires Java 9+ at runtime)")
+    public boolean indyStringConcat;
+
     // Paths to output directories for friend modules.
     public String[] friendPaths;
 
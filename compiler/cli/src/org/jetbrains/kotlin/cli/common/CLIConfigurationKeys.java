@@ -29,6 +29,8 @@ public class CLIConfigurationKeys {
             CompilerConfigurationKey.create("allow kotlin package");
     public static final CompilerConfigurationKey<Boolean> REPORT_PERF =
             CompilerConfigurationKey.create("report performance information");
+    public static final CompilerConfigurationKey<Boolean> PARALLEL_PARSING =
+            CompilerConfigurationKey.create("parse source files in parallel before analysis");
 
     // Used in Eclipse plugin (see KotlinCLICompiler)
     public static final CompilerConfigurationKey<CompilerJarLocator> COMPILER_JAR_LOCATOR =
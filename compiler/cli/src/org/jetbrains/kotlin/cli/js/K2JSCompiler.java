@@ -28,7 +28,6 @@ import com.intellij.util.containers.HashMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.kotlin.analyzer.AnalysisResult;
-import org.jetbrains.kotlin.backend.common.output.OutputFileCollection;
 import org.jetbrains.kotlin.cli.common.CLICompiler;
 import org.jetbrains.kotlin.cli.common.CLIConfigurationKeys;
 import org.jetbrains.kotlin.cli.common.ExitCode;
@@ -38,6 +37,7 @@ import org.jetbrains.kotlin.cli.common.messages.AnalyzerWithCompilerReport;
 import org.jetbrains.kotlin.cli.common.messages.CompilerMessageLocation;
 import org.jetbrains.kotlin.cli.common.messages.CompilerMessageSeverity;
 import org.jetbrains.kotlin.cli.common.messages.MessageCollector;
+import org.jetbrains.kotlin.cli.common.messages.OutputMessageUtil;
 import org.jetbrains.kotlin.cli.common.output.outputUtils.OutputUtilsKt;
 import org.jetbrains.kotlin.cli.jvm.compiler.EnvironmentConfigFiles;
 import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment;
@@ -204,7 +204,6 @@ public class K2JSCompiler extends CLICompiler<K2JSCompilerArguments> {
         if (!(translationResult instanceof TranslationResult.Success)) return ExitCode.COMPILATION_ERROR;
 
         TranslationResult.Success successResult = (TranslationResult.Success) translationResult;
-        OutputFileCollection outputFiles = successResult.getOutputFiles(outputFile, outputPrefixFile, outputPostfixFile);
 
         if (outputFile.isDirectory()) {
             messageCollector.report(CompilerMessageSeverity.ERROR,
@@ -220,7 +219,13 @@ public class K2JSCompiler extends CLICompiler<K2JSCompilerArguments> {
 
         ProgressIndicatorAndCompilationCanceledStatus.checkCanceled();
 
-        OutputUtilsKt.writeAll(outputFiles, outputDir, messageCollector);
+        for (File writtenFile : successResult.writeCode(outputFile, outputPrefixFile, outputPostfixFile)) {
+            messageCollector.report(CompilerMessageSeverity.OUTPUT,
+                                    OutputMessageUtil.formatOutputMessage(successResult.getSourceFiles(), writtenFile),
+                                    CompilerMessageLocation.NO_LOCATION);
+        }
+
+        OutputUtilsKt.writeAll(successResult.getMetadataFiles(outputFile), outputDir, messageCollector);
 
         return OK;
     }
@@ -277,6 +282,9 @@ public class K2JSCompiler extends CLICompiler<K2JSCompilerArguments> {
         if (arguments.metaInfo) {
             configuration.put(JSConfigurationKeys.META_INFO, true);
         }
+        if (arguments.removeUnreachableDeclarations) {
+            configuration.put(JSConfigurationKeys.REMOVE_UNREACHABLE_DECLARATIONS, true);
+        }
 
         List<String> libraries = new SmartList<String>();
         if (!arguments.noStdlib) {
@@ -314,9 +314,13 @@ class K2JVMCompiler : CLICompiler<K2JVMCompilerArguments>() {
             configuration.put(JVMConfigurationKeys.SKIP_RUNTIME_VERSION_CHECK, arguments.skipRuntimeVersionCheck)
             configuration.put(CLIConfigurationKeys.ALLOW_KOTLIN_PACKAGE, arguments.allowKotlinPackage)
             configuration.put(CLIConfigurationKeys.REPORT_PERF, arguments.reportPerf)
+            configuration.put(CLIConfigurationKeys.PARALLEL_PARSING, arguments.parallelParsing)
+            configuration.put(JVMConfigurationKeys.SAM_CONVERSIONS_VIA_INDY, arguments.indySamConversions)
+            configuration.put(JVMConfigurationKeys.STRING_CONCAT_VIA_INDY, arguments.indyStringConcat)
             configuration.put(JVMConfigurationKeys.USE_SINGLE_MODULE, arguments.singleModule)
             configuration.put(JVMConfigurationKeys.ADD_BUILT_INS_FROM_COMPILER_TO_DEPENDENCIES, arguments.addCompilerBuiltIns)
             configuration.put(JVMConfigurationKeys.CREATE_BUILT_INS_FROM_MODULE_DEPENDENCIES, arguments.loadBuiltInsFromDependencies)
+            configuration.put(CommonConfigurationKeys.LAZY_MEMBER_DESERIALIZATION, arguments.lazyMemberDeserialization)
 
             arguments.declarationsOutputPath?.let { configuration.put(JVMConfigurationKeys.DECLARATIONS_JSON_PATH, it) }
         }
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2010-2017 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.cli.jvm.compiler
+
+import org.jetbrains.kotlin.analyzer.AnalysisResult
+import org.jetbrains.kotlin.container.get
+import org.jetbrains.kotlin.descriptors.ModuleDescriptor
+import org.jetbrains.kotlin.diagnostics.Diagnostic
+import org.jetbrains.kotlin.incremental.components.LookupTracker
+import org.jetbrains.kotlin.incremental.components.Position
+import org.jetbrains.kotlin.incremental.components.ScopeKind
+import org.jetbrains.kotlin.psi.*
+import org.jetbrains.kotlin.resolve.LazyTopDownAnalyzer
+import org.jetbrains.kotlin.resolve.TopDownAnalysisMode
+import org.jetbrains.kotlin.resolve.jvm.TopDownAnalyzerFacadeForJVM
+import org.jetbrains.kotlin.resolve.lazy.declarations.FileBasedDeclarationProviderFactory
+import java.util.*
+
+/**
+ * Keeps the results of the analysis of a set of source files and updates them after some of the files are edited,
+ * re-checking only the bodies of files which could be affected by the edit.
+ *
+ * The names declared in the changed and removed files, before and after the edit, are considered changed. A file is affected
+ * if it looks up (see [LookupTracker]) a changed name or declares a top-level one (and so may conflict with a changed declaration).
+ * Signatures of an affected file may change as well, so all names declared in it are considered changed too, until no new files
+ * are affected. Names are matched without regard to their scope, so the set of affected files is conservative.
+ *
+ * Descriptors are always resolved anew (lazily), so signatures of unaffected files are up to date, but their bodies are not
+ * analyzed again and their diagnostics are reused. Note that the binding context of [Result.analysisResult] is therefore only
+ * complete for [Result.analyzedFiles], so it is only suitable for reporting diagnostics, and not for code generation.
+ *
+ * Only Kotlin sources are tracked: changes in Java sources or in libraries require a new session.
+ * Analysis handler extensions are not invoked.
+ */
+class IncrementalAnalysisSession(private val environment: KotlinCoreEnvironment, files: Collection<KtFile> = environment.getSourceFiles()) {
+    class Result(
+            val analysisResult: AnalysisResult,
+            val analyzedFiles: Collection<KtFile>,
+            val diagnostics: List<Diagnostic>
+    )
+
+    private val files = LinkedHashMap<String, KtFile>()
+    private val lookedUpNames = HashMap<String, MutableSet<String>>()
+    private val diagnostics = HashMap<String, List<Diagnostic>>()
+
+    private val lookupTracker = object : LookupTracker {
+        override val requiresPosition: Boolean
+            get() = false
+
+        override fun record(filePath: String, position: Position, scopeFqName: String, scopeKind: ScopeKind, name: String) {
+            lookedUpNames.getOrPut(filePath) { HashSet() }.add(name)
+        }
+    }
+
+    init {
+        for (file in files) {
+            this.files[file.path] = file
+        }
+    }
+
+    fun analyze(): Result = doAnalyze(files.values.toList())
+
+    /**
+     * Replaces the files with the same paths as [changedFiles] (or adds the new ones), removes [removedFiles],
+     * and analyzes the bodies of all files which could be affected by these changes.
+     */
+    fun reanalyze(changedFiles: Collection<KtFile>, removedFiles: Collection<KtFile> = emptyList()): Result {
+        val changedNames = HashSet<String>()
+        val dirtyPaths = LinkedHashSet<String>()
+
+        for (file in changedFiles + removedFiles) {
+            val path = file.path
+            files[path]?.let { collectDeclaredNames(it.declarations, changedNames) }
+            collectDeclaredNames(file.declarations, changedNames)
+        }
+
+        for (file in removedFiles) {
+            val path = file.path
+            files.remove(path)
+            lookedUpNames.remove(path)
+            diagnostics.remove(path)
+        }
+        for (file in changedFiles) {
+            files[file.path] = file
+            dirtyPaths.add(file.path)
+        }
+
+        var newNames: Collection<String> = changedNames
+        while (newNames.isNotEmpty()) {
+            val namesOfAffected = HashSet<String>()
+            for ((path, file) in files) {
+                if (path in dirtyPaths) continue
+                val lookedUp = lookedUpNames[path].orEmpty()
+                val declaredAtTopLevel = file.declarations.mapNotNull { (it as? KtNamedDeclaration)?.name }
+                if (newNames.any { it in lookedUp || it in declaredAtTopLevel }) {
+                    dirtyPaths.add(path)
+                    collectDeclaredNames(file.declarations, namesOfAffected)
+                }
+            }
+            namesOfAffected.removeAll(changedNames)
+            changedNames.addAll(namesOfAffected)
+            newNames = namesOfAffected
+        }
+
+        return doAnalyze(dirtyPaths.mapNotNull { files[it] })
+    }
+
+    private fun doAnalyze(filesToAnalyze: List<KtFile>): Result {
+        for (file in filesToAnalyze) {
+            lookedUpNames.remove(file.path)
+        }
+
+        val allFiles = files.values.toList()
+        val trace = CliLightClassGenerationSupport.NoScopeRecordCliBindingTrace()
+        val container = TopDownAnalyzerFacadeForJVM.createContainer(
+                environment.project,
+                allFiles,
+                trace,
+                environment.configuration,
+                { scope -> JvmPackagePartProvider(environment, scope) },
+                ::FileBasedDeclarationProviderFactory,
+                lookupTracker = lookupTracker
+        )
+
+        container.get<LazyTopDownAnalyzer>().analyzeDeclarations(TopDownAnalysisMode.TopLevelDeclarations, filesToAnalyze)
+
+        // Lazy resolution of unaffected files may report some of their diagnostics again, but only the ones
+        // reported for the analyzed files are complete
+        val analyzedPaths = filesToAnalyze.mapTo(HashSet()) { it.path }
+        val newDiagnostics = trace.bindingContext.diagnostics.all().groupBy { it.psiFile.virtualFile.path }
+        for (path in analyzedPaths) {
+            diagnostics[path] = newDiagnostics[path].orEmpty()
+        }
+
+        return Result(
+                AnalysisResult.success(trace.bindingContext, container.get<ModuleDescriptor>()),
+                filesToAnalyze,
+                allFiles.flatMap { diagnostics[it.path].orEmpty() }
+        )
+    }
+
+    private val KtFile.path: String
+        get() = requireNotNull(virtualFile) { "Only files with a virtual file can be analyzed incrementally: $name" }.path
+
+    private fun collectDeclaredNames(declarations: List<KtDeclaration>, result: MutableSet<String>) {
+        for (declaration in declarations) {
+            (declaration as? KtNamedDeclaration)?.name?.let { result.add(it) }
+
+            if (declaration is KtClassOrObject) {
+                declaration.getPrimaryConstructorParameters().filter { it.hasValOrVar() }.mapNotNullTo(result) { it.name }
+                if (declaration is KtClass && declaration.isData()) {
+                    result.add("copy")
+                    for (i in 1..declaration.getPrimaryConstructorParameters().size) {
+                        result.add("component$i")
+                    }
+                }
+                collectDeclaredNames(declaration.declarations, result)
+            }
+        }
+    }
+}
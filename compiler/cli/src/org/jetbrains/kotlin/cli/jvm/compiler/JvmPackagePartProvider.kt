@@ -18,7 +18,7 @@ package org.jetbrains.kotlin.cli.jvm.compiler
 
 import com.intellij.openapi.vfs.VirtualFile
 import com.intellij.psi.search.GlobalSearchScope
-import com.intellij.util.SmartList
+import com.intellij.util.containers.ContainerUtil
 import org.jetbrains.kotlin.cli.jvm.config.JvmClasspathRoot
 import org.jetbrains.kotlin.config.JVMConfigurationKeys
 import org.jetbrains.kotlin.descriptors.PackagePartProvider
@@ -26,13 +26,12 @@ import org.jetbrains.kotlin.load.kotlin.ModuleMapping
 import org.jetbrains.kotlin.load.kotlin.PackageParts
 import org.jetbrains.kotlin.resolve.CompilerDeserializationConfiguration
 import java.io.EOFException
+import java.util.*
 
 class JvmPackagePartProvider(
         private val env: KotlinCoreEnvironment,
         private val scope: GlobalSearchScope
 ) : PackagePartProvider {
-    private data class ModuleMappingInfo(val root: VirtualFile, val mapping: ModuleMapping)
-
     private val deserializationConfiguration = CompilerDeserializationConfiguration(env.configuration)
 
     private val notLoadedRoots by lazy(LazyThreadSafetyMode.NONE) {
@@ -43,7 +42,10 @@ class JvmPackagePartProvider(
                 .toMutableList()
     }
 
-    private val loadedModules: MutableList<ModuleMappingInfo> = SmartList()
+    // Package FQ name -> parts of that package in each loaded root, merged over all module files of the root.
+    // Maps in the index are never modified once they're put there: when parts of a package are found in another root,
+    // the map is replaced with an updated copy. So a map returned from getPackageParts is a snapshot and needs no copying
+    private val packageIndex = hashMapOf<String, Map<VirtualFile, PackageParts>>()
 
     override fun findPackageParts(packageFqName: String): List<String> {
         val rootToPackageParts = getPackageParts(packageFqName)
@@ -70,12 +72,25 @@ class JvmPackagePartProvider(
     private fun getPackageParts(packageFqName: String): Map<VirtualFile, PackageParts> {
         processNotLoadedRelevantRoots(packageFqName)
 
-        val result = mutableMapOf<VirtualFile, PackageParts>()
-        for ((root, mapping) in loadedModules) {
-            val newParts = mapping.findPackageParts(packageFqName) ?: continue
-            result[root]?.let { parts -> parts += newParts } ?: result.put(root, newParts)
+        return packageIndex[packageFqName] ?: emptyMap()
+    }
+
+    private fun addToIndex(root: VirtualFile, mapping: ModuleMapping) {
+        for ((packageFqName, newParts) in mapping.packageFqName2Parts) {
+            val partsByRoot = LinkedHashMap(packageIndex[packageFqName] ?: emptyMap())
+            val existing = partsByRoot[root]
+            if (existing == null) {
+                partsByRoot[root] = newParts
+            }
+            else {
+                // Parts of a mapping can be shared with other providers, so they are copied instead of being modified in place
+                partsByRoot[root] = PackageParts(packageFqName).apply {
+                    this += existing
+                    this += newParts
+                }
+            }
+            packageIndex[packageFqName] = partsByRoot
         }
-        return result
     }
 
     private fun processNotLoadedRelevantRoots(packageFqName: String) {
@@ -99,14 +114,36 @@ class JvmPackagePartProvider(
             val moduleFiles = metaInf.children.filter { it.name.endsWith(ModuleMapping.MAPPING_FILE_EXT) }
             for (moduleFile in moduleFiles) {
                 val mapping = try {
-                    ModuleMapping.create(moduleFile.contentsToByteArray(), moduleFile.toString(), deserializationConfiguration)
+                    loadModuleMapping(moduleFile)
                 }
                 catch (e: EOFException) {
                     throw RuntimeException("Error on reading package parts for '$packageFqName' package in '$moduleFile', " +
                                            "roots: $notLoadedRoots", e)
                 }
-                loadedModules.add(ModuleMappingInfo(root, mapping))
+                addToIndex(root, mapping)
             }
         }
     }
+
+    private fun loadModuleMapping(moduleFile: VirtualFile): ModuleMapping {
+        val bytes = moduleFile.contentsToByteArray()
+        val skipMetadataVersionCheck = deserializationConfiguration.skipMetadataVersionCheck
+
+        val cached = moduleMappings[moduleFile.path]
+        if (cached != null && cached.skipMetadataVersionCheck == skipMetadataVersionCheck && Arrays.equals(cached.bytes, bytes)) {
+            return cached.mapping
+        }
+
+        val mapping = ModuleMapping.create(bytes, moduleFile.toString(), deserializationConfiguration)
+        moduleMappings[moduleFile.path] = CachedModuleMapping(bytes, skipMetadataVersionCheck, mapping)
+        return mapping
+    }
+
+    private class CachedModuleMapping(val bytes: ByteArray, val skipMetadataVersionCheck: Boolean, val mapping: ModuleMapping)
+
+    companion object {
+        // Module files of libraries are parsed once per process, e.g. once for all compilations in the daemon.
+        // Cached mappings are never modified, and a module file whose contents have changed is parsed again
+        private val moduleMappings = ContainerUtil.createConcurrentSoftValueMap<String, CachedModuleMapping>()
+    }
 }
@@ -325,6 +325,8 @@ class KotlinCoreEnvironment private constructor(
         ): KotlinCoreEnvironment {
             setCompatibleBuild()
             val appEnv = getOrCreateApplicationEnvironmentForProduction(configuration, configFilePaths)
+            // Jars may have been rebuilt since the previous compilation in this process
+            KotlinBinaryClassCache.clearJarStamps()
             // Disposing of the environment is unsafe in production then parallel builds are enabled, but turning it off universally
             // breaks a lot of tests, therefore it is disabled for production and enabled for tests
             if (!(System.getProperty(KOTLIN_COMPILER_ENVIRONMENT_KEEPALIVE_PROPERTY).toBooleanLenient() ?: false)) {
@@ -447,7 +449,7 @@ class KotlinCoreEnvironment private constructor(
                 registerFileType(KotlinFileType.INSTANCE, "kt")
                 registerFileType(KotlinFileType.INSTANCE, KotlinParserDefinition.STD_SCRIPT_SUFFIX)
                 registerParserDefinition(KotlinParserDefinition())
-                application.registerService(KotlinBinaryClassCache::class.java, KotlinBinaryClassCache())
+                application.registerService(KotlinBinaryClassCache::class.java, KotlinBinaryClassCache(shareClassesFromJars = true))
                 application.registerService(JavaClassSupers::class.java, JavaClassSupersImpl::class.java)
                 application.registerService(TransactionGuard::class.java, TransactionGuardImpl::class.java)
             }
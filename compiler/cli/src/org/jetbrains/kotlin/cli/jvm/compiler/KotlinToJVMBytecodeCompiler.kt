@@ -16,6 +16,7 @@
 
 package org.jetbrains.kotlin.cli.jvm.compiler
 
+import com.intellij.lang.ASTNode
 import com.intellij.openapi.application.ApplicationManager
 import com.intellij.openapi.project.Project
 import com.intellij.openapi.util.io.JarUtil
@@ -63,6 +64,8 @@ import java.io.File
 import java.io.IOException
 import java.lang.reflect.InvocationTargetException
 import java.net.URLClassLoader
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
 import java.util.concurrent.TimeUnit
 import java.util.jar.Attributes
 
@@ -331,6 +334,10 @@ object KotlinToJVMBytecodeCompiler {
     private fun analyze(environment: KotlinCoreEnvironment, targetDescription: String?): AnalysisResult? {
         val collector = environment.messageCollector
 
+        if (environment.configuration.getBoolean(CLIConfigurationKeys.PARALLEL_PARSING)) {
+            parseInParallel(environment, targetDescription)
+        }
+
         val analysisStart = PerformanceCounter.currentTime()
         val analyzerWithCompilerReport = AnalyzerWithCompilerReport(collector)
         analyzerWithCompilerReport.analyzeAndReport(
@@ -379,6 +386,56 @@ object KotlinToJVMBytecodeCompiler {
             null
     }
 
+    private fun parseInParallel(environment: KotlinCoreEnvironment, targetDescription: String?) {
+        val sourceFiles = environment.getSourceFiles()
+        if (sourceFiles.isEmpty()) return
+
+        val parseStart = PerformanceCounter.currentTime()
+        val executor = Executors.newFixedThreadPool(Math.min(Runtime.getRuntime().availableProcessors(), sourceFiles.size))
+        try {
+            sourceFiles.map { file ->
+                executor.submit(Runnable {
+                    ApplicationManager.getApplication().runReadAction(Runnable { buildSyntaxTree(file) })
+                })
+            }.forEach { future ->
+                try {
+                    future.get()
+                }
+                catch (e: ExecutionException) {
+                    throw e.cause ?: e
+                }
+            }
+        }
+        finally {
+            executor.shutdown()
+        }
+
+        val parseNanos = PerformanceCounter.currentTime() - parseStart
+
+        val sourceLinesOfCode = environment.sourceLinesOfCode
+        val time = TimeUnit.NANOSECONDS.toMillis(parseNanos)
+        // Small sources may be parsed in less than a millisecond
+        val speed = sourceLinesOfCode.toFloat() * 1000 / Math.max(time, 1)
+
+        val message = "PARSE: ${sourceFiles.size} files ($sourceLinesOfCode lines) ${targetDescription ?: ""}" +
+                      "in $time ms - ${"%.3f".format(speed)} loc/s"
+
+        K2JVMCompiler.reportPerf(environment.configuration, message)
+    }
+
+    // Lambda bodies and blocks are lazy-parseable and only get parsed when their children are requested,
+    // so the whole tree is walked to make sure that nothing is left to be parsed during analysis
+    private fun buildSyntaxTree(file: KtFile) {
+        val nodes = arrayListOf<ASTNode>(file.node)
+        while (nodes.isNotEmpty()) {
+            var child = nodes.removeAt(nodes.lastIndex).firstChildNode
+            while (child != null) {
+                nodes.add(child)
+                child = child.treeNext
+            }
+        }
+    }
+
     class DirectoriesScope(
             project: Project, private val directories: List<VirtualFile>
     ) : DelegatingGlobalSearchScope(GlobalSearchScope.allScope(project)) {
@@ -90,6 +90,12 @@ public class JVMConfigurationKeys {
     public static final CompilerConfigurationKey<Boolean> JVM8_TARGET_WITH_DEFAULTS =
             CompilerConfigurationKey.create("Generate default methods in interfaces");
 
+    public static final CompilerConfigurationKey<Boolean> SAM_CONVERSIONS_VIA_INDY =
+            CompilerConfigurationKey.create("Generate SAM conversions of function values through invokedynamic");
+
+    public static final CompilerConfigurationKey<Boolean> STRING_CONCAT_VIA_INDY =
+            CompilerConfigurationKey.create("Generate string concatenation through invokedynamic");
+
     public static final CompilerConfigurationKey<IncrementalCompilationComponents> INCREMENTAL_COMPILATION_COMPONENTS =
             CompilerConfigurationKey.create("incremental cache provider");
 
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2010-2017 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.load.kotlin;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.org.objectweb.asm.AnnotationVisitor;
+import org.jetbrains.org.objectweb.asm.ClassVisitor;
+import org.jetbrains.org.objectweb.asm.Type;
+
+/**
+ * Reads the class name, version, inner classes and class annotations of a class file without visiting its fields and methods.
+ *
+ * The constant pool is indexed by offset once per scanner, UTF-8 entries are decoded lazily and memoized, and the offsets of
+ * the class-level attributes are found by skipping member attributes by their length, so no member is ever parsed.
+ * Values are reported to ASM visitors exactly in the way {@link org.jetbrains.org.objectweb.asm.ClassReader} would report them.
+ */
+class ClassFileHeaderScanner {
+    private static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+
+    private final byte[] b;
+    private final int[] constantPoolOffsets;
+    private final String[] utf8Cache;
+    private final int headerOffset;
+
+    private int innerClassesOffset = -1;
+    private int visibleAnnotationsOffset = -1;
+    private int invisibleAnnotationsOffset = -1;
+
+    ClassFileHeaderScanner(@NotNull byte[] b) {
+        this.b = b;
+
+        if (readInt(0) != CLASS_FILE_MAGIC) {
+            throw new IllegalArgumentException("Not a class file");
+        }
+
+        int count = readUnsignedShort(8);
+        constantPoolOffsets = new int[count];
+        utf8Cache = new String[count];
+
+        int offset = 10;
+        for (int i = 1; i < count; i++) {
+            constantPoolOffsets[i] = offset + 1;
+            int size;
+            switch (b[offset]) {
+                case 1: // Utf8
+                    size = 3 + readUnsignedShort(offset + 1);
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    size = 5;
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    size = 9;
+                    i++;
+                    break;
+                case 15: // MethodHandle
+                    size = 4;
+                    break;
+                case 7: // Class
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    size = 3;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown constant pool tag " + b[offset] + " at offset " + offset);
+            }
+            offset += size;
+        }
+        headerOffset = offset;
+
+        indexClassAttributes();
+    }
+
+    private void indexClassAttributes() {
+        int offset = headerOffset + 6;
+        offset += 2 + 2 * readUnsignedShort(offset);
+
+        // Fields and methods have the same layout: access_flags, name_index, descriptor_index, attributes
+        for (int memberKind = 0; memberKind < 2; memberKind++) {
+            int members = readUnsignedShort(offset);
+            offset += 2;
+            for (int i = 0; i < members; i++) {
+                offset = skipAttributes(offset + 6);
+            }
+        }
+
+        int attributes = readUnsignedShort(offset);
+        offset += 2;
+        for (int i = 0; i < attributes; i++) {
+            String name = readUtf8(offset);
+            int length = readInt(offset + 2);
+            offset += 6;
+            if ("InnerClasses".equals(name)) {
+                innerClassesOffset = offset;
+            }
+            else if ("RuntimeVisibleAnnotations".equals(name)) {
+                visibleAnnotationsOffset = offset;
+            }
+            else if ("RuntimeInvisibleAnnotations".equals(name)) {
+                invisibleAnnotationsOffset = offset;
+            }
+            offset += length;
+        }
+    }
+
+    private int skipAttributes(int offset) {
+        int attributes = readUnsignedShort(offset);
+        offset += 2;
+        for (int i = 0; i < attributes; i++) {
+            offset += 6 + readInt(offset + 2);
+        }
+        return offset;
+    }
+
+    /**
+     * @see org.jetbrains.org.objectweb.asm.ClassReader#getClassName()
+     */
+    @NotNull
+    public String getClassName() {
+        return readClass(headerOffset + 2);
+    }
+
+    /**
+     * Returns the version in the same format as the one passed to {@link ClassVisitor#visit}: minor version in the upper 16 bits.
+     */
+    public int getClassVersion() {
+        return readInt(4);
+    }
+
+    public void acceptInnerClasses(@NotNull ClassVisitor visitor) {
+        if (innerClassesOffset < 0) return;
+
+        int offset = innerClassesOffset;
+        int count = readUnsignedShort(offset);
+        offset += 2;
+        for (int i = 0; i < count; i++) {
+            visitor.visitInnerClass(readClass(offset), readClass(offset + 2), readUtf8(offset + 4), readUnsignedShort(offset + 6));
+            offset += 8;
+        }
+    }
+
+    public void acceptClassAnnotations(@NotNull ClassVisitor visitor) {
+        acceptAnnotations(visitor, visibleAnnotationsOffset, true);
+        acceptAnnotations(visitor, invisibleAnnotationsOffset, false);
+    }
+
+    private void acceptAnnotations(@NotNull ClassVisitor visitor, int offset, boolean visible) {
+        if (offset < 0) return;
+
+        int count = readUnsignedShort(offset);
+        offset += 2;
+        for (int i = 0; i < count; i++) {
+            String desc = readUtf8(offset);
+            offset = readAnnotationValues(offset + 2, true, visitor.visitAnnotation(desc, visible));
+        }
+    }
+
+    private int readAnnotationValues(int offset, boolean named, @Nullable AnnotationVisitor av) {
+        int count = readUnsignedShort(offset);
+        offset += 2;
+        for (int i = 0; i < count; i++) {
+            String name = null;
+            if (named) {
+                name = readUtf8(offset);
+                offset += 2;
+            }
+            offset = readElementValue(offset, name, av);
+        }
+        if (av != null) {
+            av.visitEnd();
+        }
+        return offset;
+    }
+
+    private int readElementValue(int offset, @Nullable String name, @Nullable AnnotationVisitor av) {
+        char tag = (char) (b[offset] & 0xFF);
+        offset++;
+        switch (tag) {
+            case 'B':
+                if (av != null) av.visit(name, (byte) readInt(constantPoolOffsets[readUnsignedShort(offset)]));
+                return offset + 2;
+            case 'C':
+                if (av != null) av.visit(name, (char) readInt(constantPoolOffsets[readUnsignedShort(offset)]));
+                return offset + 2;
+            case 'S':
+                if (av != null) av.visit(name, (short) readInt(constantPoolOffsets[readUnsignedShort(offset)]));
+                return offset + 2;
+            case 'Z':
+                if (av != null) av.visit(name, readInt(constantPoolOffsets[readUnsignedShort(offset)]) != 0);
+                return offset + 2;
+            case 'I':
+                if (av != null) av.visit(name, readInt(constantPoolOffsets[readUnsignedShort(offset)]));
+                return offset + 2;
+            case 'J':
+                if (av != null) av.visit(name, readLong(constantPoolOffsets[readUnsignedShort(offset)]));
+                return offset + 2;
+            case 'F':
+                if (av != null) av.visit(name, Float.intBitsToFloat(readInt(constantPoolOffsets[readUnsignedShort(offset)])));
+                return offset + 2;
+            case 'D':
+                if (av != null) av.visit(name, Double.longBitsToDouble(readLong(constantPoolOffsets[readUnsignedShort(offset)])));
+                return offset + 2;
+            case 's':
+                if (av != null) av.visit(name, readUtf8(offset));
+                return offset + 2;
+            case 'e':
+                if (av != null) av.visitEnum(name, readUtf8(offset), readUtf8(offset + 2));
+                return offset + 4;
+            case 'c':
+                if (av != null) av.visit(name, Type.getType(readUtf8(offset)));
+                return offset + 2;
+            case '@':
+                return readAnnotationValues(offset + 2, true, av == null ? null : av.visitAnnotation(name, readUtf8(offset)));
+            case '[':
+                return readArrayValue(offset, name, av);
+            default:
+                throw new IllegalArgumentException("Unknown element value tag '" + tag + "' at offset " + (offset - 1));
+        }
+    }
+
+    private int readArrayValue(int offset, @Nullable String name, @Nullable AnnotationVisitor av) {
+        int size = readUnsignedShort(offset);
+        if (av == null || size == 0) {
+            return readAnnotationValues(offset, false, av == null ? null : av.visitArray(name));
+        }
+
+        // Like ClassReader, report arrays of primitives as a single value. Elements of such arrays are always 3 bytes long
+        int first = offset + 2;
+        switch ((char) (b[first] & 0xFF)) {
+            case 'B': {
+                byte[] values = new byte[size];
+                for (int i = 0; i < size; i++) values[i] = (byte) readConstInt(first + 3 * i);
+                av.visit(name, values);
+                break;
+            }
+            case 'C': {
+                char[] values = new char[size];
+                for (int i = 0; i < size; i++) values[i] = (char) readConstInt(first + 3 * i);
+                av.visit(name, values);
+                break;
+            }
+            case 'S': {
+                short[] values = new short[size];
+                for (int i = 0; i < size; i++) values[i] = (short) readConstInt(first + 3 * i);
+                av.visit(name, values);
+                break;
+            }
+            case 'Z': {
+                boolean[] values = new boolean[size];
+                for (int i = 0; i < size; i++) values[i] = readConstInt(first + 3 * i) != 0;
+                av.visit(name, values);
+                break;
+            }
+            case 'I': {
+                int[] values = new int[size];
+                for (int i = 0; i < size; i++) values[i] = readConstInt(first + 3 * i);
+                av.visit(name, values);
+                break;
+            }
+            case 'J': {
+                long[] values = new long[size];
+                for (int i = 0; i < size; i++) values[i] = readConstLong(first + 3 * i);
+                av.visit(name, values);
+                break;
+            }
+            case 'F': {
+                float[] values = new float[size];
+                for (int i = 0; i < size; i++) values[i] = Float.intBitsToFloat(readConstInt(first + 3 * i));
+                av.visit(name, values);
+                break;
+            }
+            case 'D': {
+                double[] values = new double[size];
+                for (int i = 0; i < size; i++) values[i] = Double.longBitsToDouble(readConstLong(first + 3 * i));
+                av.visit(name, values);
+                break;
+            }
+            default:
+                return readAnnotationValues(offset, false, av.visitArray(name));
+        }
+        return first + 3 * size;
+    }
+
+    private int readConstInt(int elementOffset) {
+        return readInt(constantPoolOffsets[readUnsignedShort(elementOffset + 1)]);
+    }
+
+    private long readConstLong(int elementOffset) {
+        return readLong(constantPoolOffsets[readUnsignedShort(elementOffset + 1)]);
+    }
+
+    @Nullable
+    private String readClass(int offset) {
+        int index = readUnsignedShort(offset);
+        return index == 0 ? null : readUtf8(constantPoolOffsets[index]);
+    }
+
+    @Nullable
+    private String readUtf8(int offset) {
+        int index = readUnsignedShort(offset);
+        if (index == 0) return null;
+
+        String result = utf8Cache[index];
+        if (result == null) {
+            int start = constantPoolOffsets[index];
+            result = utf8Cache[index] = decodeModifiedUtf8(start + 2, readUnsignedShort(start));
+        }
+        return result;
+    }
+
+    @NotNull
+    private String decodeModifiedUtf8(int offset, int length) {
+        char[] buf = new char[length];
+        int end = offset + length;
+        int size = 0;
+        while (offset < end) {
+            int c = b[offset++] & 0xFF;
+            if (c < 0x80) {
+                buf[size++] = (char) c;
+            }
+            else if (c < 0xE0) {
+                buf[size++] = (char) (((c & 0x1F) << 6) | (b[offset++] & 0x3F));
+            }
+            else {
+                buf[size++] = (char) (((c & 0x0F) << 12) | ((b[offset] & 0x3F) << 6) | (b[offset + 1] & 0x3F));
+                offset += 2;
+            }
+        }
+        return new String(buf, 0, size);
+    }
+
+    private int readUnsignedShort(int offset) {
+        return ((b[offset] & 0xFF) << 8) | (b[offset + 1] & 0xFF);
+    }
+
+    private int readInt(int offset) {
+        return ((b[offset] & 0xFF) << 24) | ((b[offset + 1] & 0xFF) << 16) | ((b[offset + 2] & 0xFF) << 8) | (b[offset + 3] & 0xFF);
+    }
+
+    private long readLong(int offset) {
+        return ((long) readInt(offset) << 32) | (readInt(offset + 4) & 0xFFFFFFFFL);
+    }
+}
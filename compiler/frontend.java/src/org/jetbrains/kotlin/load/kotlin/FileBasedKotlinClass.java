@@ -16,7 +16,6 @@
 
 package org.jetbrains.kotlin.load.kotlin;
 
-import com.intellij.openapi.util.Ref;
 import kotlin.jvm.functions.Function4;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -90,40 +89,29 @@ public abstract class FileBasedKotlinClass implements KotlinJvmBinaryClass {
             @NotNull Function4<ClassId, Integer, KotlinClassHeader, InnerClassesInfo, T> factory
     ) {
         final ReadKotlinClassHeaderAnnotationVisitor readHeaderVisitor = new ReadKotlinClassHeaderAnnotationVisitor();
-        final Ref<String> classNameRef = Ref.create();
-        final Ref<Integer> classVersion = Ref.create();
         final InnerClassesInfo innerClasses = new InnerClassesInfo();
-        new ClassReader(fileContents).accept(new ClassVisitor(ASM5) {
-            @Override
-            public void visit(int version, int access, @NotNull String name, String signature, String superName, String[] interfaces) {
-                classNameRef.set(name);
-                classVersion.set(version);
-            }
+        ClassFileHeaderScanner scanner = new ClassFileHeaderScanner(fileContents);
 
+        // Inner classes are read first, so that names of annotation classes can be resolved correctly
+        scanner.acceptInnerClasses(new ClassVisitor(ASM5) {
             @Override
             public void visitInnerClass(@NotNull String name, String outerName, String innerName, int access) {
                 innerClasses.add(name, outerName, innerName);
             }
-
+        });
+        scanner.acceptClassAnnotations(new ClassVisitor(ASM5) {
             @Override
             public org.jetbrains.org.objectweb.asm.AnnotationVisitor visitAnnotation(@NotNull String desc, boolean visible) {
                 return convertAnnotationVisitor(readHeaderVisitor, desc, innerClasses);
             }
-
-            @Override
-            public void visitEnd() {
-                readHeaderVisitor.visitEnd();
-            }
-        }, SKIP_CODE | SKIP_DEBUG | SKIP_FRAMES);
-
-        String className = classNameRef.get();
-        if (className == null) return null;
+        });
+        readHeaderVisitor.visitEnd();
 
         KotlinClassHeader header = readHeaderVisitor.createHeader();
         if (header == null) return null;
 
-        ClassId id = resolveNameByInternalName(className, innerClasses);
-        return factory.invoke(id, classVersion.get(), header, innerClasses);
+        ClassId id = resolveNameByInternalName(scanner.getClassName(), innerClasses);
+        return factory.invoke(id, scanner.getClassVersion(), header, innerClasses);
     }
 
     @NotNull
@@ -142,20 +130,21 @@ public abstract class FileBasedKotlinClass implements KotlinJvmBinaryClass {
         return classHeader;
     }
 
+    @NotNull
+    public InnerClassesInfo getInnerClasses() {
+        return innerClasses;
+    }
+
     @Override
     public void loadClassAnnotations(@NotNull final AnnotationVisitor annotationVisitor, @Nullable byte[] cachedContents) {
         byte[] fileContents = cachedContents != null ? cachedContents : getFileContents();
-        new ClassReader(fileContents).accept(new ClassVisitor(ASM5) {
+        new ClassFileHeaderScanner(fileContents).acceptClassAnnotations(new ClassVisitor(ASM5) {
             @Override
             public org.jetbrains.org.objectweb.asm.AnnotationVisitor visitAnnotation(@NotNull String desc, boolean visible) {
                 return convertAnnotationVisitor(annotationVisitor, desc, innerClasses);
             }
-
-            @Override
-            public void visitEnd() {
-                annotationVisitor.visitEnd();
-            }
-        }, SKIP_CODE | SKIP_DEBUG | SKIP_FRAMES);
+        });
+        annotationVisitor.visitEnd();
     }
 
     @Nullable
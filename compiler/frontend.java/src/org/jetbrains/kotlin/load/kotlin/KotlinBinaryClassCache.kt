@@ -22,8 +22,18 @@ import com.intellij.openapi.application.ApplicationManager
 import com.intellij.openapi.components.ServiceManager
 import com.intellij.openapi.util.Computable
 import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.util.containers.ContainerUtil
+import com.intellij.util.io.URLUtil
+import org.jetbrains.kotlin.load.kotlin.header.KotlinClassHeader
+import org.jetbrains.kotlin.name.ClassId
+import java.io.File
+import java.util.concurrent.ConcurrentHashMap
 
-class KotlinBinaryClassCache : Disposable {
+/**
+ * @param shareClassesFromJars whether headers of classes from jars should be reused across applications in the same process.
+ * Only safe when jars are not expected to change while the application is alive, which is the case for the compiler
+ */
+class KotlinBinaryClassCache(private val shareClassesFromJars: Boolean = false) : Disposable {
     private class RequestCache {
         internal var virtualFile: VirtualFile? = null
         internal var modificationStamp: Long = 0
@@ -44,6 +54,47 @@ class KotlinBinaryClassCache : Disposable {
         }
     }
 
+    private data class JarStamp(val timeStamp: Long, val length: Long)
+
+    private class CachedKotlinClass(
+            val jarStamp: JarStamp,
+            val classId: ClassId?,
+            val classVersion: Int,
+            val classHeader: KotlinClassHeader?,
+            val innerClasses: FileBasedKotlinClass.InnerClassesInfo?
+    ) {
+        fun toKotlinClass(file: VirtualFile): VirtualFileKotlinClass? =
+                if (classId == null) null
+                else VirtualFileKotlinClass.createFromCache(file, classId, classVersion, classHeader!!, innerClasses!!)
+    }
+
+    private fun readKotlinClass(file: VirtualFile, fileContent: ByteArray?): VirtualFileKotlinClass? {
+        val path = file.path
+        val separatorIndex = path.indexOf(URLUtil.JAR_SEPARATOR)
+        if (!shareClassesFromJars || separatorIndex < 0) {
+            @Suppress("DEPRECATION")
+            return VirtualFileKotlinClass.create(file, fileContent)
+        }
+
+        val jarPath = path.substring(0, separatorIndex)
+        val jarStamp = jarStamps.getOrPut(jarPath) {
+            val jar = File(jarPath)
+            JarStamp(jar.lastModified(), jar.length())
+        }
+
+        val cached = classesInJars[path]
+        if (cached != null && cached.jarStamp == jarStamp) {
+            return cached.toKotlinClass(file)
+        }
+
+        @Suppress("DEPRECATION")
+        val aClass = VirtualFileKotlinClass.create(file, fileContent)
+        classesInJars[path] =
+                if (aClass == null) CachedKotlinClass(jarStamp, null, 0, null, null)
+                else CachedKotlinClass(jarStamp, aClass.classId, aClass.classVersion, aClass.classHeader, aClass.innerClasses)
+        return aClass
+    }
+
     override fun dispose() {
         // This is only relevant for tests. We create a new instance of Application for each test, and so a new instance of this service is
         // also created for each test. However all tests share the same event dispatch thread, which would collect all instances of this
@@ -52,6 +103,19 @@ class KotlinBinaryClassCache : Disposable {
     }
 
     companion object {
+        // Headers of classes from jars are shared between all applications in the process (e.g. between compilations in the daemon),
+        // and are not bound to the VFS of any of them: a VirtualFileKotlinClass is recreated for the requested file on each hit
+        private val classesInJars = ContainerUtil.createConcurrentSoftValueMap<String, CachedKotlinClass>()
+
+        // Each jar is checked on disk only once until the stamps are cleared, which happens when a new compilation starts
+        // and when the daemon clears its jar caches, so that headers of a rebuilt jar are not reused
+        private val jarStamps = ConcurrentHashMap<String, JarStamp>()
+
+        @JvmStatic
+        fun clearJarStamps() {
+            jarStamps.clear()
+        }
+
         fun getKotlinBinaryClass(file: VirtualFile, fileContent: ByteArray? = null): KotlinJvmBinaryClass? {
             if (file.fileType !== JavaClassFileType.INSTANCE) return null
 
@@ -63,8 +127,7 @@ class KotlinBinaryClassCache : Disposable {
             }
 
             val aClass = ApplicationManager.getApplication().runReadAction(Computable {
-                //noinspection deprecation
-                VirtualFileKotlinClass.create(file, fileContent)
+                service.readKotlinClass(file, fileContent)
             })
 
             return requestCache.cache(file, aClass)
@@ -79,6 +79,10 @@ class VirtualFileKotlinClass private constructor(
             }
         }
 
+        internal fun createFromCache(
+                file: VirtualFile, className: ClassId, classVersion: Int, classHeader: KotlinClassHeader, innerClasses: InnerClassesInfo
+        ): VirtualFileKotlinClass = VirtualFileKotlinClass(file, className, classVersion, classHeader, innerClasses)
+
         private fun renderFileReadingErrorMessage(file: VirtualFile): String =
                 "Could not read file: ${file.path}; size in bytes: ${file.length}; file type: ${file.fileType.name}"
     }
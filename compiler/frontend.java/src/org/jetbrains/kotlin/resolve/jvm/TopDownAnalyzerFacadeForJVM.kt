@@ -118,7 +118,9 @@ object TopDownAnalyzerFacadeForJVM {
             configuration: CompilerConfiguration,
             packagePartProvider: (GlobalSearchScope) -> PackagePartProvider,
             declarationProviderFactory: (StorageManager, Collection<KtFile>) -> DeclarationProviderFactory,
-            sourceModuleSearchScope: GlobalSearchScope = newModuleSearchScope(project, files)
+            sourceModuleSearchScope: GlobalSearchScope = newModuleSearchScope(project, files),
+            lookupTracker: LookupTracker =
+                    configuration.get(JVMConfigurationKeys.INCREMENTAL_COMPILATION_COMPONENTS)?.getLookupTracker() ?: LookupTracker.DO_NOTHING
     ): ComponentProvider {
         val createBuiltInsFromModule = configuration.getBoolean(JVMConfigurationKeys.CREATE_BUILT_INS_FROM_MODULE_DEPENDENCIES)
         val moduleContext = createModuleContext(project, configuration, createBuiltInsFromModule)
@@ -127,7 +129,6 @@ object TopDownAnalyzerFacadeForJVM {
         val module = moduleContext.module
 
         val incrementalComponents = configuration.get(JVMConfigurationKeys.INCREMENTAL_COMPILATION_COMPONENTS)
-        val lookupTracker = incrementalComponents?.getLookupTracker() ?: LookupTracker.DO_NOTHING
         val targetIds = configuration.get(JVMConfigurationKeys.MODULES)?.map(::TargetId)
 
         val separateModules = !configuration.getBoolean(JVMConfigurationKeys.USE_SINGLE_MODULE)
@@ -19,25 +19,179 @@ package org.jetbrains.kotlin.cfg
 import org.jetbrains.kotlin.descriptors.VariableDescriptor
 import java.util.*
 
-open class ControlFlowInfo<D> internal constructor(protected val map: MutableMap<VariableDescriptor, D> = hashMapOf()) :
-        MutableMap<VariableDescriptor, D> by map {
-    open fun copy() = ControlFlowInfo(HashMap(map))
+/**
+ * Numbers variables which occur in control flow data of a pseudocode, so that their states can be stored in bit vectors.
+ * All control flow infos built during one analysis share the same index.
+ */
+class VariableIndex {
+    private val indices = HashMap<VariableDescriptor, Int>()
+    private val variables = ArrayList<VariableDescriptor>()
+
+    fun indexOf(variable: VariableDescriptor): Int = indices.getOrPut(variable) {
+        variables.add(variable)
+        variables.size - 1
+    }
+
+    fun existingIndexOf(variable: VariableDescriptor): Int = indices[variable] ?: -1
+
+    fun variableAt(index: Int): VariableDescriptor = variables[index]
+}
+
+/**
+ * Stores states of variables as 4-bit codes packed into longs, zero code standing for a variable without a state.
+ * This makes copying, comparing and merging infos word-wise operations instead of operations on hash maps.
+ */
+abstract class ControlFlowInfo<D> internal constructor(
+        val variableIndex: VariableIndex,
+        protected var words: LongArray
+) : AbstractMap<VariableDescriptor, D>() {
+    abstract fun copy(): ControlFlowInfo<D>
+
+    protected abstract fun encode(value: D): Int
+
+    protected abstract fun decode(code: Int): D
+
+    protected fun codeAt(index: Int): Int {
+        val wordIndex = index / CODES_PER_WORD
+        if (wordIndex >= words.size) return 0
+        return ((words[wordIndex] ushr (index % CODES_PER_WORD * BITS_PER_CODE)) and CODE_MASK).toInt()
+    }
+
+    protected fun setCodeAt(index: Int, code: Int) {
+        val wordIndex = index / CODES_PER_WORD
+        if (wordIndex >= words.size) {
+            if (code == 0) return
+            words = words.copyOf(Math.max(wordIndex + 1, words.size * 2))
+        }
+        val shift = index % CODES_PER_WORD * BITS_PER_CODE
+        words[wordIndex] = (words[wordIndex] and (CODE_MASK shl shift).inv()) or (code.toLong() shl shift)
+    }
+
+    private fun nextIndexWithCode(from: Int): Int {
+        var index = from
+        while (index < words.size * CODES_PER_WORD) {
+            if (index % CODES_PER_WORD == 0 && words[index / CODES_PER_WORD] == 0L) {
+                index += CODES_PER_WORD
+                continue
+            }
+            if (codeAt(index) != 0) return index
+            index++
+        }
+        return -1
+    }
+
+    override fun get(key: VariableDescriptor): D? {
+        val index = variableIndex.existingIndexOf(key)
+        if (index < 0) return null
+        val code = codeAt(index)
+        return if (code == 0) null else decode(code)
+    }
+
+    override fun containsKey(key: VariableDescriptor) = get(key) != null
+
+    override fun put(key: VariableDescriptor, value: D): D? {
+        val index = variableIndex.indexOf(key)
+        val previous = codeAt(index)
+        setCodeAt(index, encode(value))
+        return if (previous == 0) null else decode(previous)
+    }
+
+    override fun remove(key: VariableDescriptor): D? {
+        val index = variableIndex.existingIndexOf(key)
+        if (index < 0) return null
+        val previous = codeAt(index)
+        if (previous == 0) return null
+        setCodeAt(index, 0)
+        return decode(previous)
+    }
+
+    override val size: Int
+        get() = words.sumBy { word ->
+            // one bit per non-zero code
+            java.lang.Long.bitCount((word or (word ushr 1) or (word ushr 2) or (word ushr 3)) and LOWEST_BIT_OF_EACH_CODE)
+        }
+
+    override val entries: MutableSet<MutableMap.MutableEntry<VariableDescriptor, D>>
+        get() = object : AbstractSet<MutableMap.MutableEntry<VariableDescriptor, D>>() {
+            override val size: Int
+                get() = this@ControlFlowInfo.size
+
+            override fun iterator() = object : MutableIterator<MutableMap.MutableEntry<VariableDescriptor, D>> {
+                private var next = nextIndexWithCode(0)
+                private var last = -1
+
+                override fun hasNext() = next >= 0
+
+                override fun next(): MutableMap.MutableEntry<VariableDescriptor, D> {
+                    if (next < 0) throw NoSuchElementException()
+                    last = next
+                    next = nextIndexWithCode(next + 1)
+                    return AbstractMap.SimpleEntry(variableIndex.variableAt(last), decode(codeAt(last)))
+                }
+
+                override fun remove() {
+                    if (last < 0) throw IllegalStateException()
+                    setCodeAt(last, 0)
+                    last = -1
+                }
+            }
+        }
 
     fun retainAll(predicate: (VariableDescriptor) -> Boolean): ControlFlowInfo<D> {
-        map.keys.retainAll(predicate)
+        var index = nextIndexWithCode(0)
+        while (index >= 0) {
+            if (!predicate(variableIndex.variableAt(index))) {
+                setCodeAt(index, 0)
+            }
+            index = nextIndexWithCode(index + 1)
+        }
         return this
     }
 
-    override fun equals(other: Any?) = map == (other as? ControlFlowInfo<*>)?.map
+    override fun equals(other: Any?): Boolean {
+        if (other !is ControlFlowInfo<*> || other.variableIndex !== variableIndex) return super.equals(other)
+
+        val otherWords = other.words
+        for (i in 0..Math.max(words.size, otherWords.size) - 1) {
+            if (words.getOrElse(i) { 0L } != otherWords.getOrElse(i) { 0L }) return false
+        }
+        return true
+    }
+
+    // Infos with different indices and other maps may be equal to this one, so the hash code is computed from the entries
+    // as in java.util.Map, but without creating them
+    override fun hashCode(): Int {
+        var result = 0
+        var index = nextIndexWithCode(0)
+        while (index >= 0) {
+            result += variableIndex.variableAt(index).hashCode() xor decode(codeAt(index)).hashCode()
+            index = nextIndexWithCode(index + 1)
+        }
+        return result
+    }
 
-    override fun hashCode() = map.hashCode()
+    companion object {
+        private const val BITS_PER_CODE = 4
+        private const val CODES_PER_WORD = 64 / BITS_PER_CODE
+        private const val CODE_MASK = (1L shl BITS_PER_CODE) - 1
+        private const val LOWEST_BIT_OF_EACH_CODE = 0x1111111111111111L
 
-    override fun toString() = map.toString()
+        internal val NO_WORDS = LongArray(0)
+    }
 }
 
-class InitControlFlowInfo(map: MutableMap<VariableDescriptor, VariableControlFlowState> = hashMapOf()) :
-        ControlFlowInfo<VariableControlFlowState>(map) {
-    override fun copy() = InitControlFlowInfo(HashMap(map))
+class InitControlFlowInfo private constructor(variableIndex: VariableIndex, words: LongArray) :
+        ControlFlowInfo<VariableControlFlowState>(variableIndex, words) {
+    constructor(variableIndex: VariableIndex = VariableIndex()) : this(variableIndex, NO_WORDS)
+
+    override fun copy() = InitControlFlowInfo(variableIndex, words.copyOf())
+
+    // Codes are 1 + (initState.ordinal * 2 + isDeclared)
+    override fun encode(value: VariableControlFlowState) =
+            1 + (value.initState.ordinal shl 1) + (if (value.isDeclared) 1 else 0)
+
+    override fun decode(code: Int) =
+            VariableControlFlowState.create(INIT_STATES[(code - 1) shr 1], (code - 1) and 1 != 0)
 
     // this = output of EXHAUSTIVE_WHEN_ELSE instruction
     // merge = input of MergeInstruction
@@ -51,11 +205,46 @@ class InitControlFlowInfo(map: MutableMap<VariableDescriptor, VariableControlFlo
         }
         return false
     }
+
+    private companion object {
+        val INIT_STATES = InitState.values()
+    }
 }
 
-class UseControlFlowInfo(map: MutableMap<VariableDescriptor, VariableUseState> = hashMapOf()) :
-        ControlFlowInfo<VariableUseState>(map) {
-    override fun copy() = UseControlFlowInfo(HashMap(map))
+class UseControlFlowInfo private constructor(variableIndex: VariableIndex, words: LongArray) :
+        ControlFlowInfo<VariableUseState>(variableIndex, words) {
+    constructor(variableIndex: VariableIndex = VariableIndex()) : this(variableIndex, NO_WORDS)
+
+    override fun copy() = UseControlFlowInfo(variableIndex, words.copyOf())
+
+    // Each state's code includes the bits of all states with lower priority, so that merge of states is a bitwise 'or'
+    override fun encode(value: VariableUseState) = (1 shl (USE_STATES.size - value.ordinal)) - 1
+
+    override fun decode(code: Int) = USE_STATES[USE_STATES.size - Integer.bitCount(code)]
+
+    /**
+     * Merges states of all variables from [other] into this info, as [VariableUseState.merge] would do
+     */
+    fun mergeWith(other: UseControlFlowInfo): UseControlFlowInfo {
+        if (other.variableIndex !== variableIndex) {
+            for ((variable, state) in other) {
+                put(variable, state.merge(get(variable)))
+            }
+            return this
+        }
+
+        if (other.words.size > words.size) {
+            words = words.copyOf(other.words.size)
+        }
+        for (i in other.words.indices) {
+            words[i] = words[i] or other.words[i]
+        }
+        return this
+    }
+
+    private companion object {
+        val USE_STATES = VariableUseState.values()
+    }
 }
 
 enum class InitState(private val s: String) {
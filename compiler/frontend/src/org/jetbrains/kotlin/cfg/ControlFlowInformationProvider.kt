@@ -817,6 +817,7 @@ class ControlFlowInformationProvider private constructor(
     private fun checkSuspendCalls(currentFunction: FunctionDescriptor) {
         if (!currentFunction.isSuspend) return
         var containsNonTailCalls = false
+        var containsNonTailCallsExceptLastUnitCall = false
 
         traverseCalls { instruction, resolvedCall ->
             val calleeDescriptor = resolvedCall.resultingDescriptor as? FunctionDescriptor ?: return@traverseCalls
@@ -832,8 +833,16 @@ class ControlFlowInformationProvider private constructor(
             val element = instruction.element
             val isUsedAsExpression = instruction.owner.getUsages(instruction.outputValue).isNotEmpty()
 
-            if (!isUsedAsExpression || !instruction.isTailCall(enclosingSuspendFunction) || isInsideTry(element)) {
+            if (!instruction.isTailCall(enclosingSuspendFunction) || isInsideTry(element)) {
                 containsNonTailCalls = true
+                containsNonTailCallsExceptLastUnitCall = true
+            }
+            else if (!isUsedAsExpression) {
+                containsNonTailCalls = true
+                // The result of a Unit call which is the last statement of a Unit function can be returned as is on JVM
+                if (enclosingSuspendFunction != subroutine || !isLastUnitStatement(element, currentFunction, calleeDescriptor)) {
+                    containsNonTailCallsExceptLastUnitCall = true
+                }
             }
         }
 
@@ -844,15 +853,21 @@ class ControlFlowInformationProvider private constructor(
                     trace[BindingContext.DECLARATION_TO_DESCRIPTOR, instruction.element] as? VariableDescriptorWithAccessors
                     ?: return@traverse
 
-            containsNonTailCalls =
-                    containsNonTailCalls || variableDescriptor.accessors.any {
-                        trace[BindingContext.DELEGATED_PROPERTY_RESOLVED_CALL, it]?.candidateDescriptor?.isSuspend == true
-                    }
+            if (variableDescriptor.accessors.any {
+                trace[BindingContext.DELEGATED_PROPERTY_RESOLVED_CALL, it]?.candidateDescriptor?.isSuspend == true
+            }) {
+                containsNonTailCalls = true
+                containsNonTailCallsExceptLastUnitCall = true
+            }
         }
 
         if (containsNonTailCalls) {
             trace.record(BindingContext.CONTAINS_NON_TAIL_SUSPEND_CALLS, currentFunction.original)
         }
+
+        if (containsNonTailCallsExceptLastUnitCall) {
+            trace.record(BindingContext.CONTAINS_NON_TAIL_SUSPEND_CALLS_EXCEPT_LAST_UNIT_CALL, currentFunction.original)
+        }
         else {
             val tailInstructionDetector = TailInstructionDetector(subroutine)
             traverseFollowingInstructions(
@@ -872,6 +887,17 @@ class ControlFlowInformationProvider private constructor(
         }
     }
 
+    private fun isLastUnitStatement(element: KtElement, currentFunction: FunctionDescriptor, calleeDescriptor: FunctionDescriptor): Boolean {
+        if (subroutine !is KtNamedFunction) return false
+        val currentFunctionReturnType = currentFunction.returnType ?: return false
+        val calleeReturnType = calleeDescriptor.returnType ?: return false
+        if (!KotlinBuiltIns.isUnit(currentFunctionReturnType) || !KotlinBuiltIns.isUnit(calleeReturnType)) return false
+
+        val body = subroutine.bodyExpression as? KtBlockExpression ?: return false
+        val lastStatement = KtPsiUtil.deparenthesize(body.statements.lastOrNull()) ?: return false
+        return lastStatement == element || lastStatement is KtDotQualifiedExpression && lastStatement.selectorExpression == element
+    }
+
     private fun markAndCheckRecursiveTailCalls(subroutineDescriptor: FunctionDescriptor) {
         if (!subroutineDescriptor.isTailrec) return
 
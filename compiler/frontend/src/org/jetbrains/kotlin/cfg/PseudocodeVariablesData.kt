@@ -88,11 +88,13 @@ class PseudocodeVariablesData(val pseudocode: Pseudocode, private val bindingCon
     private fun computeVariableInitializers(): Map<Instruction, Edges<InitControlFlowInfo>> {
 
         val blockScopeVariableInfo = pseudocodeVariableDataCollector.blockScopeVariableInfo
+        val variableIndex = VariableIndex()
 
-        return pseudocodeVariableDataCollector.collectData(TraversalOrder.FORWARD, InitControlFlowInfo()) {
+        return pseudocodeVariableDataCollector.collectData(TraversalOrder.FORWARD, InitControlFlowInfo(variableIndex)) {
             instruction: Instruction, incomingEdgesData: Collection<InitControlFlowInfo> ->
 
-            val enterInstructionData = mergeIncomingEdgesDataForInitializers(instruction, incomingEdgesData, blockScopeVariableInfo)
+            val enterInstructionData = mergeIncomingEdgesDataForInitializers(
+                    instruction, incomingEdgesData, blockScopeVariableInfo, variableIndex)
             val exitInstructionData = addVariableInitStateFromCurrentInstructionIfAny(
                     instruction, enterInstructionData, blockScopeVariableInfo)
             Edges(enterInstructionData, exitInstructionData)
@@ -146,43 +148,44 @@ class PseudocodeVariablesData(val pseudocode: Pseudocode, private val bindingCon
     // variable use
 
     val variableUseStatusData: Map<Instruction, Edges<UseControlFlowInfo>>
-        get() = pseudocodeVariableDataCollector.collectData(TraversalOrder.BACKWARD, UseControlFlowInfo()) {
-            instruction: Instruction, incomingEdgesData: Collection<UseControlFlowInfo> ->
-            val enterResult: UseControlFlowInfo
-
-            if (incomingEdgesData.size == 1) {
-                enterResult = incomingEdgesData.single()
-            }
-            else {
-                enterResult = UseControlFlowInfo()
-                for (edgeData in incomingEdgesData) {
-                    for ((variableDescriptor, variableUseState) in edgeData) {
-                        enterResult.put(variableDescriptor, variableUseState.merge(enterResult[variableDescriptor]))
+        get() {
+            val variableIndex = VariableIndex()
+            return pseudocodeVariableDataCollector.collectData(TraversalOrder.BACKWARD, UseControlFlowInfo(variableIndex)) {
+                instruction: Instruction, incomingEdgesData: Collection<UseControlFlowInfo> ->
+                val enterResult: UseControlFlowInfo
+
+                if (incomingEdgesData.size == 1) {
+                    enterResult = incomingEdgesData.single()
+                }
+                else {
+                    enterResult = UseControlFlowInfo(variableIndex)
+                    for (edgeData in incomingEdgesData) {
+                        enterResult.mergeWith(edgeData)
                     }
                 }
-            }
-            val variableDescriptor = PseudocodeUtil.extractVariableDescriptorFromReference(instruction, bindingContext)
-            if (variableDescriptor == null || instruction !is ReadValueInstruction && instruction !is WriteValueInstruction) {
-                Edges(enterResult, enterResult)
-            }
-            else {
-                val exitResult = enterResult.copy()
-                if (instruction is ReadValueInstruction) {
-                    exitResult.put(variableDescriptor, VariableUseState.READ)
+                val variableDescriptor = PseudocodeUtil.extractVariableDescriptorFromReference(instruction, bindingContext)
+                if (variableDescriptor == null || instruction !is ReadValueInstruction && instruction !is WriteValueInstruction) {
+                    Edges(enterResult, enterResult)
                 }
                 else {
-                    var variableUseState: VariableUseState? = enterResult[variableDescriptor]
-                    if (variableUseState == null) {
-                        variableUseState = VariableUseState.UNUSED
+                    val exitResult = enterResult.copy()
+                    if (instruction is ReadValueInstruction) {
+                        exitResult.put(variableDescriptor, VariableUseState.READ)
                     }
-                    when (variableUseState) {
-                        VariableUseState.UNUSED, VariableUseState.ONLY_WRITTEN_NEVER_READ ->
-                            exitResult.put(variableDescriptor, VariableUseState.ONLY_WRITTEN_NEVER_READ)
-                        VariableUseState.WRITTEN_AFTER_READ, VariableUseState.READ ->
-                            exitResult.put(variableDescriptor, VariableUseState.WRITTEN_AFTER_READ)
+                    else {
+                        var variableUseState: VariableUseState? = enterResult[variableDescriptor]
+                        if (variableUseState == null) {
+                            variableUseState = VariableUseState.UNUSED
+                        }
+                        when (variableUseState) {
+                            VariableUseState.UNUSED, VariableUseState.ONLY_WRITTEN_NEVER_READ ->
+                                exitResult.put(variableDescriptor, VariableUseState.ONLY_WRITTEN_NEVER_READ)
+                            VariableUseState.WRITTEN_AFTER_READ, VariableUseState.READ ->
+                                exitResult.put(variableDescriptor, VariableUseState.WRITTEN_AFTER_READ)
+                        }
                     }
+                    Edges(enterResult, exitResult)
                 }
-                Edges(enterResult, exitResult)
             }
         }
 
@@ -205,7 +208,8 @@ class PseudocodeVariablesData(val pseudocode: Pseudocode, private val bindingCon
         private fun mergeIncomingEdgesDataForInitializers(
                 instruction: Instruction,
                 incomingEdgesData: Collection<InitControlFlowInfo>,
-                blockScopeVariableInfo: BlockScopeVariableInfo
+                blockScopeVariableInfo: BlockScopeVariableInfo,
+                variableIndex: VariableIndex
         ): InitControlFlowInfo {
             if (incomingEdgesData.size == 1) return incomingEdgesData.single()
             val variablesInScope = linkedSetOf<VariableDescriptor>()
@@ -213,7 +217,7 @@ class PseudocodeVariablesData(val pseudocode: Pseudocode, private val bindingCon
                 variablesInScope.addAll(edgeData.keys)
             }
 
-            val enterInstructionData = InitControlFlowInfo()
+            val enterInstructionData = InitControlFlowInfo(variableIndex)
             for (variable in variablesInScope) {
                 var initState: InitState? = null
                 var isDeclared = true
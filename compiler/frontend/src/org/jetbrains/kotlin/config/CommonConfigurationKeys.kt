@@ -28,6 +28,9 @@ object CommonConfigurationKeys {
 
     @JvmField
     val MODULE_NAME = CompilerConfigurationKey<String>("module name")
+
+    @JvmField
+    val LAZY_MEMBER_DESERIALIZATION = CompilerConfigurationKey<Boolean>("parse members of deserialized package parts on demand")
 }
 
 var CompilerConfiguration.languageVersionSettings: LanguageVersionSettings
@@ -137,6 +137,9 @@ public interface BindingContext {
 
     WritableSlice<Call, FunctionDescriptor> ENCLOSING_SUSPEND_FUNCTION_FOR_SUSPEND_FUNCTION_CALL = Slices.createSimpleSlice();
     WritableSlice<FunctionDescriptor, Boolean> CONTAINS_NON_TAIL_SUSPEND_CALLS = Slices.createSimpleSetSlice();
+    // Same as CONTAINS_NON_TAIL_SUSPEND_CALLS, except that a call of a Unit suspend function which is the last statement
+    // of a Unit suspend function is a tail call. Only for backends which return the result of such a call as is (JVM)
+    WritableSlice<FunctionDescriptor, Boolean> CONTAINS_NON_TAIL_SUSPEND_CALLS_EXCEPT_LAST_UNIT_CALL = Slices.createSimpleSetSlice();
     WritableSlice<KtExpression, Boolean> IS_TAIL_EXPRESSION_IN_SUSPEND_FUNCTION = Slices.createSimpleSetSlice();
 
     WritableSlice<VariableAccessorDescriptor, ResolvedCall<FunctionDescriptor>> DELEGATED_PROPERTY_RESOLVED_CALL = Slices.createSimpleSlice();
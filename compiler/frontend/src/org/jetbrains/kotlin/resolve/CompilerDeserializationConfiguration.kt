@@ -26,4 +26,6 @@ class CompilerDeserializationConfiguration(configuration: CompilerConfiguration)
     override val typeAliasesAllowed = configuration.languageVersionSettings.supportsFeature(LanguageFeature.TypeAliases)
 
     override val skipMetadataVersionCheck = configuration.getBoolean(CommonConfigurationKeys.SKIP_METADATA_VERSION_CHECK)
+
+    override val readMembersLazily = configuration.getBoolean(CommonConfigurationKeys.LAZY_MEMBER_DESERIALIZATION)
 }
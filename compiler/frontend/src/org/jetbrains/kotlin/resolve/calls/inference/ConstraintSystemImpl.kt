@@ -40,7 +40,8 @@ internal class ConstraintSystemImpl(
         private val typeVariableSubstitutors: Map<CallHandle, TypeSubstitutor>
 ) : ConstraintSystem {
     private val localTypeParameterBounds: Map<TypeVariable, TypeBoundsImpl>
-        get() = allTypeParameterBounds.filterNot { it.key.isExternal }
+        get() = if (allTypeParameterBounds.keys.none { it.isExternal }) allTypeParameterBounds
+                else allTypeParameterBounds.filterNot { it.key.isExternal }
 
     override val status = object : ConstraintSystemStatus {
         // for debug ConstraintsUtil.getDebugMessageForStatus might be used
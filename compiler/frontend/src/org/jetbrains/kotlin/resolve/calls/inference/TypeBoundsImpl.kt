@@ -161,6 +161,9 @@ class TypeBoundsImpl(override val typeVariable: TypeVariable) : TypeBounds {
         if (!checkOnlyInputTypes(bounds, possibleAnswer)) return false
 
         for (bound in bounds) {
+            // Typically the answer is one of the bounds itself, e.g. the single lower bound from the argument of 'listOf(x)'
+            if (bound.constrainingType === possibleAnswer) continue
+
             when (bound.kind) {
                 LOWER_BOUND -> if (!KotlinTypeChecker.DEFAULT.isSubtypeOf(bound.constrainingType, possibleAnswer)) {
                     return false
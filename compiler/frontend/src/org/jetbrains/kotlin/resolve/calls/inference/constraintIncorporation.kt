@@ -52,6 +52,10 @@ fun ConstraintSystemBuilderImpl.incorporateBound(newBound: Bound) {
         generateNewBound(boundUsedIn, newBound)
     }
 
+    // A proper bound neither is a type variable nor contains any, so there's nothing to substitute into it.
+    // This is the case for all bounds of simple calls like 'listOf(x)' with only direct argument constraints
+    if (newBound.isProper) return
+
     val constrainingType = newBound.constrainingType
     if (isMyTypeVariable(constrainingType)) {
         val context = ConstraintContext(newBound.position, newBound.derivedFrom)
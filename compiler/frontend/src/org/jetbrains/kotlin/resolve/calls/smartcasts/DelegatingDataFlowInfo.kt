@@ -24,54 +24,35 @@ import org.jetbrains.kotlin.types.*
 import org.jetbrains.kotlin.types.KotlinType
 import org.jetbrains.kotlin.types.TypeUtils
 import org.jetbrains.kotlin.types.typeUtil.*
+import org.jetbrains.kotlin.utils.PersistentHashTrieMap
 
 import java.util.*
 
 import org.jetbrains.kotlin.resolve.calls.smartcasts.Nullability.NOT_NULL
 
+/**
+ * Both maps contain complete information, not only the changes made at this point.
+ * They are persistent, so each new info shares almost all of their structure with the info it was derived from.
+ */
 internal class DelegatingDataFlowInfo private constructor(
-        private val parent: DataFlowInfo?,
-        private val nullabilityInfo: ImmutableMap<DataFlowValue, Nullability>,
-        // Also immutable
-        private val typeInfo: SetMultimap<DataFlowValue, KotlinType>,
-        /**
-         * Value for which type info was cleared or reassigned at this point
-         * so parent type info should not be in use
-         */
-        private val valueWithGivenTypeInfo: DataFlowValue?
+        private val nullabilityInfo: PersistentHashTrieMap<DataFlowValue, Nullability>,
+        // Types of each value, the most recently added first
+        private val typeInfo: PersistentHashTrieMap<DataFlowValue, Set<KotlinType>>
 ) : DataFlowInfo {
 
-    constructor(): this(null, ImmutableMap.of(), newTypeInfo(), null)
+    constructor(): this(PersistentHashTrieMap.empty(), PersistentHashTrieMap.empty())
 
     override val completeNullabilityInfo: Map<DataFlowValue, Nullability>
         get() {
-            val result = Maps.newHashMap<DataFlowValue, Nullability>()
-            var info: DelegatingDataFlowInfo? = this
-            while (info != null) {
-                for ((key, value) in info.nullabilityInfo) {
-                    if (!result.containsKey(key)) {
-                        result.put(key, value)
-                    }
-                }
-                info = info.parent as DelegatingDataFlowInfo?
-            }
+            val result = Maps.newHashMapWithExpectedSize<DataFlowValue, Nullability>(nullabilityInfo.size)
+            nullabilityInfo.forEach { key, value -> result.put(key, value) }
             return result
         }
 
     override val completeTypeInfo: SetMultimap<DataFlowValue, KotlinType>
         get() {
             val result = newTypeInfo()
-            val withGivenTypeInfo = HashSet<DataFlowValue>()
-            var info: DelegatingDataFlowInfo? = this
-            while (info != null) {
-                for (key in info.typeInfo.keySet()) {
-                    if (!withGivenTypeInfo.contains(key)) {
-                        result.putAll(key, info.typeInfo.get(key))
-                    }
-                }
-                info.valueWithGivenTypeInfo?.let { withGivenTypeInfo.add(it) }
-                info = info.parent as DelegatingDataFlowInfo?
-            }
+            typeInfo.forEach { key, types -> result.putAll(key, types) }
             return result
         }
 
@@ -84,7 +65,7 @@ internal class DelegatingDataFlowInfo private constructor(
                 key.immanentNullability
             }
             else {
-                nullabilityInfo[key] ?: parent?.getCollectedNullability(key) ?: key.immanentNullability
+                nullabilityInfo[key] ?: key.immanentNullability
             }
 
     private fun putNullability(map: MutableMap<DataFlowValue, Nullability>,
@@ -116,7 +97,7 @@ internal class DelegatingDataFlowInfo private constructor(
     override fun getCollectedTypes(key: DataFlowValue) = getCollectedTypes(key, true)
 
     private fun getCollectedTypes(key: DataFlowValue, enrichWithNotNull: Boolean): Set<KotlinType> {
-        val types = collectTypesFromMeAndParents(key)
+        val types = typeInfo[key] ?: emptySet()
         if (!enrichWithNotNull || getCollectedNullability(key).canBeNull()) {
             return types
         }
@@ -147,7 +128,7 @@ internal class DelegatingDataFlowInfo private constructor(
     override fun clearValueInfo(value: DataFlowValue, languageVersionSettings: LanguageVersionSettings): DataFlowInfo {
         val builder = Maps.newHashMap<DataFlowValue, Nullability>()
         putNullability(builder, value, Nullability.UNKNOWN, languageVersionSettings)
-        return create(this, ImmutableMap.copyOf(builder), EMPTY_TYPE_INFO, value)
+        return create(this, builder, EMPTY_TYPE_INFO, value)
     }
 
     override fun assign(a: DataFlowValue, b: DataFlowValue, languageVersionSettings: LanguageVersionSettings): DataFlowInfo {
@@ -166,7 +147,7 @@ internal class DelegatingDataFlowInfo private constructor(
         }
         newTypeInfo.putAll(a, typesForB)
 
-        return create(this, ImmutableMap.copyOf(nullability), if (newTypeInfo.isEmpty) EMPTY_TYPE_INFO else newTypeInfo, a)
+        return create(this, nullability, if (newTypeInfo.isEmpty) EMPTY_TYPE_INFO else newTypeInfo, a)
     }
 
     override fun equate(
@@ -200,31 +181,8 @@ internal class DelegatingDataFlowInfo private constructor(
             this
         }
         else {
-            create(this, ImmutableMap.copyOf(builder), if (newTypeInfo.isEmpty) EMPTY_TYPE_INFO else newTypeInfo)
-        }
-    }
-
-    private fun collectTypesFromMeAndParents(value: DataFlowValue): Set<KotlinType> {
-        val types = LinkedHashSet<KotlinType>()
-
-        var current: DataFlowInfo? = this
-        while (current != null) {
-            if (current is DelegatingDataFlowInfo) {
-                types.addAll(current.typeInfo.get(value))
-                if (value == current.valueWithGivenTypeInfo) {
-                    current = null
-                }
-                else {
-                    current = current.parent
-                }
-            }
-            else {
-                types.addAll(current.getCollectedTypes(value))
-                break
-            }
+            create(this, builder, if (newTypeInfo.isEmpty) EMPTY_TYPE_INFO else newTypeInfo)
         }
-
-        return types
     }
 
     override fun disequate(
@@ -236,7 +194,7 @@ internal class DelegatingDataFlowInfo private constructor(
 
         val changed = putNullability(builder, a, nullabilityOfA.refine(nullabilityOfB.invert()), languageVersionSettings) or
                       putNullability(builder, b, nullabilityOfB.refine(nullabilityOfA.invert()), languageVersionSettings)
-        return if (changed) create(this, ImmutableMap.copyOf(builder), EMPTY_TYPE_INFO) else this
+        return if (changed) create(this, builder, EMPTY_TYPE_INFO) else this
     }
 
     override fun establishSubtyping(
@@ -251,8 +209,7 @@ internal class DelegatingDataFlowInfo private constructor(
         if (!type.isMarkedNullable) {
             putNullability(builder, value, NOT_NULL, languageVersionSettings)
         }
-        val newNullabilityInfo = if (type.isMarkedNullable) EMPTY_NULLABILITY_INFO else ImmutableMap.copyOf(builder)
-        return create(this, newNullabilityInfo, newTypeInfo)
+        return create(this, builder, newTypeInfo)
     }
 
     override fun and(other: DataFlowInfo): DataFlowInfo {
@@ -261,9 +218,10 @@ internal class DelegatingDataFlowInfo private constructor(
         if (this === other) return this
 
         assert(other is DelegatingDataFlowInfo) { "Unknown DataFlowInfo type: " + other }
+        other as DelegatingDataFlowInfo
 
         val nullabilityMapBuilder = Maps.newHashMap<DataFlowValue, Nullability>()
-        for ((key, otherFlags) in other.completeNullabilityInfo) {
+        other.nullabilityInfo.forEach { key, otherFlags ->
             val thisFlags = getCollectedNullability(key)
             val flags = thisFlags.and(otherFlags)
             if (flags != thisFlags) {
@@ -271,13 +229,11 @@ internal class DelegatingDataFlowInfo private constructor(
             }
         }
 
-        val myTypeInfo = completeTypeInfo
-        val otherTypeInfo = other.completeTypeInfo
-        if (nullabilityMapBuilder.isEmpty() && containsAll(myTypeInfo, otherTypeInfo)) {
+        if (nullabilityMapBuilder.isEmpty() && containsAll(typeInfo, other.typeInfo)) {
             return this
         }
 
-        return create(this, ImmutableMap.copyOf(nullabilityMapBuilder), otherTypeInfo)
+        return create(this, nullabilityMapBuilder, other.completeTypeInfo)
     }
 
     private fun Set<KotlinType>.containsNothing() = any { KotlinBuiltIns.isNothing(it) }
@@ -293,37 +249,52 @@ internal class DelegatingDataFlowInfo private constructor(
         if (this === other) return this
 
         assert(other is DelegatingDataFlowInfo) { "Unknown DataFlowInfo type: " + other }
+        other as DelegatingDataFlowInfo
 
         val nullabilityMapBuilder = Maps.newHashMap<DataFlowValue, Nullability>()
-        for ((key, otherFlags) in other.completeNullabilityInfo) {
+        other.nullabilityInfo.forEach { key, otherFlags ->
             val thisFlags = getCollectedNullability(key)
             nullabilityMapBuilder.put(key, thisFlags.or(otherFlags))
         }
 
-        val myTypeInfo = completeTypeInfo
-        val otherTypeInfo = other.completeTypeInfo
         val newTypeInfo = newTypeInfo()
-
-        for (key in Sets.intersection(myTypeInfo.keySet(), otherTypeInfo.keySet())) {
-            newTypeInfo.putAll(key, myTypeInfo[key].intersect(otherTypeInfo[key]))
+        typeInfo.forEach { key, myTypes ->
+            val otherTypes = other.typeInfo[key]
+            if (otherTypes != null) {
+                newTypeInfo.putAll(key, myTypes.intersect(otherTypes))
+            }
         }
 
-        return create(null, ImmutableMap.copyOf(nullabilityMapBuilder), newTypeInfo)
+        return create(null, nullabilityMapBuilder, newTypeInfo)
     }
 
-    override fun toString() = if (typeInfo.isEmpty && nullabilityInfo.isEmpty()) "EMPTY" else "Non-trivial DataFlowInfo"
+    override fun toString() = if (typeInfo.isEmpty() && nullabilityInfo.isEmpty()) "EMPTY" else "Non-trivial DataFlowInfo"
 
     companion object {
-        private val EMPTY_NULLABILITY_INFO = ImmutableMap.of<DataFlowValue, Nullability>()
         private val EMPTY_TYPE_INFO = newTypeInfo()
 
-        private fun containsAll(first: SetMultimap<DataFlowValue, KotlinType>, second: SetMultimap<DataFlowValue, KotlinType>) =
-                first.entries().containsAll(second.entries())
+        private fun containsAll(
+                first: PersistentHashTrieMap<DataFlowValue, Set<KotlinType>>,
+                second: PersistentHashTrieMap<DataFlowValue, Set<KotlinType>>
+        ): Boolean {
+            var result = true
+            second.forEach { key, types ->
+                if (result && first[key]?.containsAll(types) != true) {
+                    result = false
+                }
+            }
+            return result
+        }
 
         fun newTypeInfo(): SetMultimap<DataFlowValue, KotlinType> = LinkedHashMultimap.create<DataFlowValue, KotlinType>()
 
-        private fun create(parent: DataFlowInfo?,
-                           nullabilityInfo: ImmutableMap<DataFlowValue, Nullability>,
+        /**
+         * Creates an info with the given changes applied to [parent].
+         * [valueWithGivenTypeInfo] is a value for which type info was cleared or reassigned at this point,
+         * so types known for it in [parent] are dropped.
+         */
+        private fun create(parent: DelegatingDataFlowInfo?,
+                           nullabilityInfo: Map<DataFlowValue, Nullability>,
                            // NB: typeInfo must be mutable here!
                            typeInfo: SetMultimap<DataFlowValue, KotlinType>,
                            valueWithGivenTypeInfo: DataFlowValue? = null
@@ -343,7 +314,26 @@ internal class DelegatingDataFlowInfo private constructor(
             if (nullabilityInfo.isEmpty() && typeInfo.isEmpty && valueWithGivenTypeInfo == null) {
                 return parent ?: DataFlowInfoFactory.EMPTY
             }
-            return DelegatingDataFlowInfo(parent, nullabilityInfo, typeInfo, valueWithGivenTypeInfo)
+
+            var resultNullabilityInfo = parent?.nullabilityInfo ?: PersistentHashTrieMap.empty()
+            for ((value, nullability) in nullabilityInfo) {
+                resultNullabilityInfo = resultNullabilityInfo.plus(value, nullability)
+            }
+
+            var resultTypeInfo = parent?.typeInfo ?: PersistentHashTrieMap.empty()
+            if (valueWithGivenTypeInfo != null) {
+                resultTypeInfo = resultTypeInfo.minus(valueWithGivenTypeInfo)
+            }
+            for (value in typeInfo.keySet()) {
+                val types = LinkedHashSet(typeInfo[value])
+                resultTypeInfo[value]?.let { types.addAll(it) }
+                resultTypeInfo = resultTypeInfo.plus(value, types)
+            }
+
+            if (parent != null && resultNullabilityInfo === parent.nullabilityInfo && resultTypeInfo === parent.typeInfo) {
+                return parent
+            }
+            return DelegatingDataFlowInfo(resultNullabilityInfo, resultTypeInfo)
         }
     }
 }
@@ -176,19 +176,31 @@ internal open class ScopeBasedTowerLevel protected constructor(
 
     internal constructor(scopeTower: ImplicitScopeTower, lexicalScope: LexicalScope) : this(scopeTower, lexicalScope as ResolutionScope)
 
+    // Candidates don't depend on the extension receiver, and a level is asked for the same name once without it
+    // and then again for each implicit receiver (see TowerResolver), so the scope is only probed once per name
+    private val variablesByName = HashMap<Name, Collection<CandidateWithBoundDispatchReceiver<VariableDescriptor>>>(1)
+    private val objectsByName = HashMap<Name, Collection<CandidateWithBoundDispatchReceiver<VariableDescriptor>>>(1)
+    private val functionsByName = HashMap<Name, Collection<CandidateWithBoundDispatchReceiver<FunctionDescriptor>>>(1)
+
     override fun getVariables(name: Name, extensionReceiver: ReceiverValueWithSmartCastInfo?): Collection<CandidateWithBoundDispatchReceiver<VariableDescriptor>>
-            = resolutionScope.getContributedVariables(name, location).map {
-                createCandidateDescriptor(it, dispatchReceiver = null)
+            = variablesByName.getOrPut(name) {
+                resolutionScope.getContributedVariables(name, location).map {
+                    createCandidateDescriptor(it, dispatchReceiver = null)
+                }
             }
 
     override fun getObjects(name: Name, extensionReceiver: ReceiverValueWithSmartCastInfo?): Collection<CandidateWithBoundDispatchReceiver<VariableDescriptor>>
-            = resolutionScope.getContributedObjectVariables(name, location).map {
-                createCandidateDescriptor(it, dispatchReceiver = null)
+            = objectsByName.getOrPut(name) {
+                resolutionScope.getContributedObjectVariables(name, location).map {
+                    createCandidateDescriptor(it, dispatchReceiver = null)
+                }
             }
 
     override fun getFunctions(name: Name, extensionReceiver: ReceiverValueWithSmartCastInfo?): Collection<CandidateWithBoundDispatchReceiver<FunctionDescriptor>>
-            = resolutionScope.getContributedFunctionsAndConstructors(name, location, scopeTower.syntheticConstructorsProvider).map {
-                createCandidateDescriptor(it, dispatchReceiver = null)
+            = functionsByName.getOrPut(name) {
+                resolutionScope.getContributedFunctionsAndConstructors(name, location, scopeTower.syntheticConstructorsProvider).map {
+                    createCandidateDescriptor(it, dispatchReceiver = null)
+                }
             }
 }
 internal class ImportingScopeBasedTowerLevel(
@@ -21,6 +21,7 @@ import org.jetbrains.kotlin.descriptors.FunctionDescriptor
 import org.jetbrains.kotlin.descriptors.VariableDescriptor
 import org.jetbrains.kotlin.progress.ProgressIndicatorAndCompilationCanceledStatus
 import org.jetbrains.kotlin.resolve.calls.tasks.ExplicitReceiverKind
+import org.jetbrains.kotlin.resolve.scopes.HierarchicalScope
 import org.jetbrains.kotlin.resolve.scopes.ImportingScope
 import org.jetbrains.kotlin.resolve.scopes.LexicalScope
 import org.jetbrains.kotlin.resolve.scopes.receivers.ReceiverValueWithSmartCastInfo
@@ -82,17 +83,17 @@ class TowerResolver {
     ): Collection<C>
             = scopeTower.run(processor, AllCandidatesCollector { it.status }, false)
 
-    private fun ImplicitScopeTower.createNonLocalLevels(): List<ScopeTowerLevel> {
+    private fun ImplicitScopeTower.createNonLocalLevels(scopeLevel: (HierarchicalScope) -> ScopeTowerLevel): List<ScopeTowerLevel> {
         val result = ArrayList<ScopeTowerLevel>()
 
         lexicalScope.parentsWithSelf.forEach { scope ->
             if (scope is LexicalScope) {
-                if (!scope.kind.withLocalDescriptors) result.add(ScopeBasedTowerLevel(this, scope))
+                if (!scope.kind.withLocalDescriptors) result.add(scopeLevel(scope))
 
                 getImplicitReceiver(scope)?.let { result.add(MemberScopeTowerLevel(this, it)) }
             }
             else {
-                result.add(ImportingScopeBasedTowerLevel(this, scope as ImportingScope))
+                result.add(scopeLevel(scope))
             }
         }
 
@@ -106,6 +107,12 @@ class TowerResolver {
     ): Collection<C> {
         fun TowerData.process() = processTowerData(processor, resultCollector, useOrder, this)
 
+        // The same level is used for a scope with and without implicit receivers, so that it probes the scope only once per name
+        val scopeLevels = IdentityHashMap<HierarchicalScope, ScopeTowerLevel>()
+        fun scopeLevel(scope: HierarchicalScope) = scopeLevels.getOrPut(scope) {
+            if (scope is LexicalScope) ScopeBasedTowerLevel(this, scope) else ImportingScopeBasedTowerLevel(this, scope as ImportingScope)
+        }
+
         val localLevels = lexicalScope.parentsWithSelf.
                 filterIsInstance<LexicalScope>().filter { it.kind.withLocalDescriptors }.
                 map { ScopeBasedTowerLevel(this@run, it) }
@@ -131,7 +138,7 @@ class TowerResolver {
             if (scope is LexicalScope) {
                 // statics
                 if (!scope.kind.withLocalDescriptors) {
-                    TowerData.TowerLevel(ScopeBasedTowerLevel(this, scope)).process()?.let { return it }
+                    TowerData.TowerLevel(scopeLevel(scope)).process()?.let { return it }
                 }
 
                 val implicitReceiver = getImplicitReceiver(scope)
@@ -155,7 +162,7 @@ class TowerResolver {
 
                     // extension for implicit receiver
                     if (nonLocalLevels == null) {
-                        nonLocalLevels = createNonLocalLevels()
+                        nonLocalLevels = createNonLocalLevels { scopeLevel(it) }
                     }
 
                     for (nonLocalLevel in nonLocalLevels) {
@@ -165,7 +172,7 @@ class TowerResolver {
             }
             else {
                 // functions with no receiver or extension for explicit receiver
-                TowerData.TowerLevel(ImportingScopeBasedTowerLevel(this, scope as ImportingScope)).process()?.let { return it }
+                TowerData.TowerLevel(scopeLevel(scope)).process()?.let { return it }
             }
         }
 
@@ -0,0 +1,13 @@
+package test
+
+fun main(args: Array<String>) {
+    val values = args.map { it.length }.filter { length ->
+        if (length > 0) {
+            true
+        }
+        else {
+            false
+        }
+    }
+    println(sum(values))
+}
@@ -0,0 +1,9 @@
+package test
+
+fun sum(values: List<Int>): Int {
+    var result = 0
+    for (value in values) {
+        result += value
+    }
+    return result
+}
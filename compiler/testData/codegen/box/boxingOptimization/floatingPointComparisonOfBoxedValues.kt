@@ -0,0 +1,33 @@
+// TARGET_BACKEND: JVM
+
+private inline fun <T> equalsInline(a: T, b: T) = a == b
+
+private inline fun <T : Comparable<T>> compareInline(a: T, b: T) = a.compareTo(b)
+
+fun box(): String {
+    val doubleNaN = Double.NaN
+    val doubleZero = 0.0
+    val doubleNegativeZero = -0.0
+
+    if (!equalsInline(doubleNaN, doubleNaN)) return "Fail 1"
+    if (equalsInline(doubleZero, doubleNegativeZero)) return "Fail 2"
+    if (!equalsInline(doubleNegativeZero, doubleNegativeZero)) return "Fail 3"
+    if (equalsInline(doubleNaN, doubleZero)) return "Fail 4"
+    if (compareInline(doubleZero, doubleNegativeZero) <= 0) return "Fail 5"
+    if (compareInline(doubleNaN, Double.POSITIVE_INFINITY) <= 0) return "Fail 6"
+    if (compareInline(doubleNaN, doubleNaN) != 0) return "Fail 7"
+
+    val floatNaN = Float.NaN
+    val floatZero = 0.0f
+    val floatNegativeZero = -0.0f
+
+    if (!equalsInline(floatNaN, floatNaN)) return "Fail 8"
+    if (equalsInline(floatZero, floatNegativeZero)) return "Fail 9"
+    if (!equalsInline(floatNegativeZero, floatNegativeZero)) return "Fail 10"
+    if (equalsInline(floatNaN, floatZero)) return "Fail 11"
+    if (compareInline(floatZero, floatNegativeZero) <= 0) return "Fail 12"
+    if (compareInline(floatNaN, Float.POSITIVE_INFINITY) <= 0) return "Fail 13"
+    if (compareInline(floatNaN, floatNaN) != 0) return "Fail 14"
+
+    return "OK"
+}
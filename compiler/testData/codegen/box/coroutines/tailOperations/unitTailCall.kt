@@ -0,0 +1,78 @@
+// WITH_RUNTIME
+// WITH_COROUTINES
+import kotlin.coroutines.experimental.*
+import kotlin.coroutines.experimental.intrinsics.*
+
+var log = ""
+var postponed: () -> Unit = {}
+
+suspend fun suspendHere(value: String): Unit = suspendCoroutineOrReturn { x ->
+    postponed = {
+        log += "$value;"
+        x.resume(Unit)
+    }
+    COROUTINE_SUSPENDED
+}
+
+suspend fun bar(value: String) {
+    log += "bar $value;"
+    suspendHere(value)
+    log += "after $value;"
+}
+
+object Obj {
+    suspend fun bar(value: String) {
+        suspendHere(value)
+    }
+}
+
+// The last statement of each of these functions is a call of a Unit suspend function
+suspend fun foo() {
+    bar("foo")
+}
+
+suspend fun fooWithStatements(value: String) {
+    log += "before;"
+    bar(value)
+}
+
+suspend fun fooWithQualifiedCall() {
+    Obj.bar("qualified")
+}
+
+suspend fun fooOfFoo() {
+    foo()
+}
+
+fun builder(c: suspend () -> Unit) {
+    c.startCoroutine(handleResultContinuation {
+        log += "done;"
+    })
+}
+
+fun test(expected: String, c: suspend () -> Unit): String? {
+    log = ""
+    postponed = {}
+    builder {
+        c()
+        log += "after call;"
+    }
+    if (log.contains("after call;")) return "Fail: the coroutine didn't wait for the suspended call: $log"
+    var steps = 0
+    while (!log.endsWith("done;") && steps++ < 10) {
+        val next = postponed
+        postponed = {}
+        next()
+    }
+    return if (log != expected) "Fail: $log != $expected" else null
+}
+
+fun box(): String {
+    test("bar foo;foo;after foo;after call;done;") { foo() }?.let { return it }
+    test("before;bar x;x;after x;after call;done;") { fooWithStatements("x") }?.let { return it }
+    test("qualified;after call;done;") { fooWithQualifiedCall() }?.let { return it }
+    test("bar foo;foo;after foo;after call;done;") { fooOfFoo() }?.let { return it }
+    test("bar foo;foo;after foo;bar foo;foo;after foo;after call;done;") { foo(); foo() }?.let { return it }
+
+    return "OK"
+}
@@ -0,0 +1,33 @@
+// TARGET_BACKEND: JVM
+// KOTLIN_CONFIGURATION_FLAGS: +COMMON.DISABLE_INLINE
+// WITH_RUNTIME
+
+import kotlin.reflect.KProperty
+
+class Delegate(var stored: String) {
+    inline operator fun getValue(thisRef: Any?, property: KProperty<*>): String = stored
+
+    inline operator fun setValue(thisRef: Any?, property: KProperty<*>, newValue: String) {
+        stored = newValue
+    }
+}
+
+class Provider(val initial: String) {
+    inline operator fun provideDelegate(thisRef: Any?, property: KProperty<*>): Delegate = Delegate(initial)
+}
+
+class C {
+    val lazyValue by lazy { "O" }
+    var delegated by Delegate("")
+    val provided by Provider("K")
+}
+
+val topLevel by Delegate("OK")
+
+fun box(): String {
+    val c = C()
+    c.delegated = c.lazyValue
+    if (c.delegated != "O") return "Fail delegated: ${c.delegated}"
+    if (topLevel != "OK") return "Fail topLevel: $topLevel"
+    return c.delegated + c.provided
+}
@@ -0,0 +1,53 @@
+// TARGET_BACKEND: JVM
+// WITH_RUNTIME
+
+fun reversedIntDownTo(a: Int, b: Int): List<Int> {
+    val result = ArrayList<Int>()
+    for (i in (a downTo b).reversed()) {
+        result.add(i)
+        if (result.size > 10) break
+    }
+    return result
+}
+
+fun reversedLongDownTo(a: Long, b: Long): List<Long> {
+    val result = ArrayList<Long>()
+    for (i in (a downTo b).reversed()) {
+        result.add(i)
+        if (result.size > 10) break
+    }
+    return result
+}
+
+fun reversedCharDownTo(a: Char, b: Char): String {
+    val result = StringBuilder()
+    for (c in (a downTo b).reversed()) {
+        result.append(c)
+        if (result.length > 10) break
+    }
+    return result.toString()
+}
+
+fun box(): String {
+    if (reversedIntDownTo(3, 1) != listOf(1, 2, 3)) return "Fail 1: ${reversedIntDownTo(3, 1)}"
+    if (reversedIntDownTo(3, 3) != listOf(3)) return "Fail 2: ${reversedIntDownTo(3, 3)}"
+    if (reversedIntDownTo(1, 3) != listOf<Int>()) return "Fail 3: ${reversedIntDownTo(1, 3)}"
+    if (reversedIntDownTo(Int.MAX_VALUE, Int.MAX_VALUE - 1) != listOf(Int.MAX_VALUE - 1, Int.MAX_VALUE)) {
+        return "Fail 4: ${reversedIntDownTo(Int.MAX_VALUE, Int.MAX_VALUE - 1)}"
+    }
+    if (reversedIntDownTo(Int.MIN_VALUE + 1, Int.MIN_VALUE) != listOf(Int.MIN_VALUE, Int.MIN_VALUE + 1)) {
+        return "Fail 5: ${reversedIntDownTo(Int.MIN_VALUE + 1, Int.MIN_VALUE)}"
+    }
+
+    if (reversedLongDownTo(3L, 1L) != listOf(1L, 2L, 3L)) return "Fail 6: ${reversedLongDownTo(3L, 1L)}"
+    if (reversedLongDownTo(1L, 3L) != listOf<Long>()) return "Fail 7: ${reversedLongDownTo(1L, 3L)}"
+    if (reversedLongDownTo(Long.MAX_VALUE, Long.MAX_VALUE - 1) != listOf(Long.MAX_VALUE - 1, Long.MAX_VALUE)) {
+        return "Fail 8: ${reversedLongDownTo(Long.MAX_VALUE, Long.MAX_VALUE - 1)}"
+    }
+
+    if (reversedCharDownTo('c', 'a') != "abc") return "Fail 9: ${reversedCharDownTo('c', 'a')}"
+    if (reversedCharDownTo('a', 'c') != "") return "Fail 10: ${reversedCharDownTo('a', 'c')}"
+    if (reversedCharDownTo('\uFFFF', '\uFFFE') != "\uFFFE\uFFFF") return "Fail 11: ${reversedCharDownTo('\uFFFF', '\uFFFE')}"
+
+    return "OK"
+}
@@ -0,0 +1,58 @@
+// TARGET_BACKEND: JVM
+// WITH_RUNTIME
+
+fun reversedIntRange(a: Int, b: Int): List<Int> {
+    val result = ArrayList<Int>()
+    for (i in (a..b).reversed()) {
+        result.add(i)
+        if (result.size > 10) break
+    }
+    return result
+}
+
+fun reversedLongRange(a: Long, b: Long): List<Long> {
+    val result = ArrayList<Long>()
+    for (i in (a..b).reversed()) {
+        result.add(i)
+        if (result.size > 10) break
+    }
+    return result
+}
+
+fun reversedCharRange(a: Char, b: Char): String {
+    val result = StringBuilder()
+    for (c in (a..b).reversed()) {
+        result.append(c)
+        if (result.length > 10) break
+    }
+    return result.toString()
+}
+
+fun box(): String {
+    if (reversedIntRange(1, 3) != listOf(3, 2, 1)) return "Fail 1: ${reversedIntRange(1, 3)}"
+    if (reversedIntRange(3, 3) != listOf(3)) return "Fail 2: ${reversedIntRange(3, 3)}"
+    if (reversedIntRange(3, 1) != listOf<Int>()) return "Fail 3: ${reversedIntRange(3, 1)}"
+    if (reversedIntRange(Int.MIN_VALUE, Int.MIN_VALUE + 1) != listOf(Int.MIN_VALUE + 1, Int.MIN_VALUE)) {
+        return "Fail 4: ${reversedIntRange(Int.MIN_VALUE, Int.MIN_VALUE + 1)}"
+    }
+    if (reversedIntRange(Int.MAX_VALUE - 1, Int.MAX_VALUE) != listOf(Int.MAX_VALUE, Int.MAX_VALUE - 1)) {
+        return "Fail 5: ${reversedIntRange(Int.MAX_VALUE - 1, Int.MAX_VALUE)}"
+    }
+    if (reversedIntRange(Int.MAX_VALUE, Int.MIN_VALUE) != listOf<Int>()) return "Fail 6: ${reversedIntRange(Int.MAX_VALUE, Int.MIN_VALUE)}"
+
+    if (reversedLongRange(1L, 3L) != listOf(3L, 2L, 1L)) return "Fail 7: ${reversedLongRange(1L, 3L)}"
+    if (reversedLongRange(3L, 1L) != listOf<Long>()) return "Fail 8: ${reversedLongRange(3L, 1L)}"
+    if (reversedLongRange(Long.MIN_VALUE, Long.MIN_VALUE + 1) != listOf(Long.MIN_VALUE + 1, Long.MIN_VALUE)) {
+        return "Fail 9: ${reversedLongRange(Long.MIN_VALUE, Long.MIN_VALUE + 1)}"
+    }
+    if (reversedLongRange(Long.MAX_VALUE - 1, Long.MAX_VALUE) != listOf(Long.MAX_VALUE, Long.MAX_VALUE - 1)) {
+        return "Fail 10: ${reversedLongRange(Long.MAX_VALUE - 1, Long.MAX_VALUE)}"
+    }
+
+    if (reversedCharRange('a', 'c') != "cba") return "Fail 11: ${reversedCharRange('a', 'c')}"
+    if (reversedCharRange('c', 'a') != "") return "Fail 12: ${reversedCharRange('c', 'a')}"
+    if (reversedCharRange('\u0000', '\u0001') != "\u0001\u0000") return "Fail 13: ${reversedCharRange('\u0000', '\u0001')}"
+    if (reversedCharRange('\uFFFE', '\uFFFF') != "\uFFFF\uFFFE") return "Fail 14: ${reversedCharRange('\uFFFE', '\uFFFF')}"
+
+    return "OK"
+}
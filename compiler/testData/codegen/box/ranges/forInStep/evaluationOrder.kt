@@ -0,0 +1,59 @@
+// TARGET_BACKEND: JVM
+// WITH_RUNTIME
+
+val log = StringBuilder()
+
+fun start(value: Int): Int {
+    log.append("start;")
+    return value
+}
+
+fun end(value: Int): Int {
+    log.append("end;")
+    return value
+}
+
+fun step(value: Int): Int {
+    log.append("step;")
+    return value
+}
+
+fun logged(block: () -> Unit): String {
+    log.setLength(0)
+    try {
+        block()
+    }
+    catch (e: IllegalArgumentException) {
+        log.append("exception;")
+    }
+    return log.toString()
+}
+
+fun box(): String {
+    val rangeStep = logged { for (i in start(1)..end(5) step step(2)) log.append("$i;") }
+    if (rangeStep != "start;end;step;1;3;5;") return "Fail 1: $rangeStep"
+
+    val downToStep = logged { for (i in start(5) downTo end(1) step step(2)) log.append("$i;") }
+    if (downToStep != "start;end;step;5;3;1;") return "Fail 2: $downToStep"
+
+    val untilStep = logged { for (i in start(1) until end(5) step step(2)) log.append("$i;") }
+    if (untilStep != "start;end;step;1;3;") return "Fail 3: $untilStep"
+
+    // All of the bounds are evaluated before the step is checked
+    val nonPositiveStep = logged { for (i in start(1)..end(5) step step(0)) log.append("$i;") }
+    if (nonPositiveStep != "start;end;step;exception;") return "Fail 4: $nonPositiveStep"
+
+    val emptyRangeStep = logged { for (i in start(5)..end(1) step step(2)) log.append("$i;") }
+    if (emptyRangeStep != "start;end;step;") return "Fail 5: $emptyRangeStep"
+
+    val until = logged { for (i in start(1) until end(3)) log.append("$i;") }
+    if (until != "start;end;1;2;") return "Fail 6: $until"
+
+    val reversedRange = logged { for (i in (start(1)..end(3)).reversed()) log.append("$i;") }
+    if (reversedRange != "start;end;3;2;1;") return "Fail 7: $reversedRange"
+
+    val reversedDownTo = logged { for (i in (start(3) downTo end(1)).reversed()) log.append("$i;") }
+    if (reversedDownTo != "start;end;1;2;3;") return "Fail 8: $reversedDownTo"
+
+    return "OK"
+}
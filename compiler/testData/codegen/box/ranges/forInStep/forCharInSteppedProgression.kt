@@ -0,0 +1,47 @@
+// TARGET_BACKEND: JVM
+// WITH_RUNTIME
+
+fun rangeStep(a: Char, b: Char, step: Int): String {
+    val result = StringBuilder()
+    for (c in a..b step step) {
+        result.append(c)
+        if (result.length > 10) break
+    }
+    return result.toString()
+}
+
+fun downToStep(a: Char, b: Char, step: Int): String {
+    val result = StringBuilder()
+    for (c in a downTo b step step) {
+        result.append(c)
+        if (result.length > 10) break
+    }
+    return result.toString()
+}
+
+fun untilStep(a: Char, b: Char, step: Int): String {
+    val result = StringBuilder()
+    for (c in a until b step step) {
+        result.append(c)
+        if (result.length > 10) break
+    }
+    return result.toString()
+}
+
+fun box(): String {
+    if (rangeStep('a', 'g', 3) != "adg") return "Fail 1: ${rangeStep('a', 'g', 3)}"
+    if (rangeStep('g', 'a', 3) != "") return "Fail 2: ${rangeStep('g', 'a', 3)}"
+    if (rangeStep('\uFFFA', '\uFFFF', 2) != "\uFFFA\uFFFC\uFFFE") return "Fail 3: ${rangeStep('\uFFFA', '\uFFFF', 2)}"
+    // The step is larger than the whole range of chars
+    if (rangeStep('\u0000', '\uFFFF', Int.MAX_VALUE) != "\u0000") return "Fail 4: ${rangeStep('\u0000', '\uFFFF', Int.MAX_VALUE)}"
+
+    if (downToStep('g', 'a', 3) != "gda") return "Fail 5: ${downToStep('g', 'a', 3)}"
+    if (downToStep('\u0005', '\u0000', 2) != "\u0005\u0003\u0001") return "Fail 6: ${downToStep('\u0005', '\u0000', 2)}"
+    if (downToStep('\uFFFF', '\u0000', 0x10000) != "\uFFFF") return "Fail 7: ${downToStep('\uFFFF', '\u0000', 0x10000)}"
+
+    if (untilStep('a', 'g', 3) != "ad") return "Fail 8: ${untilStep('a', 'g', 3)}"
+    if (untilStep('a', '\u0000', 1) != "") return "Fail 9: ${untilStep('a', '\u0000', 1)}"
+    if (untilStep('\uFFFA', '\uFFFF', 2) != "\uFFFA\uFFFC\uFFFE") return "Fail 10: ${untilStep('\uFFFA', '\uFFFF', 2)}"
+
+    return "OK"
+}
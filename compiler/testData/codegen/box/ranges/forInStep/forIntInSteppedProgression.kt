@@ -0,0 +1,74 @@
+// TARGET_BACKEND: JVM
+// WITH_RUNTIME
+
+fun rangeStep(a: Int, b: Int, step: Int): List<Int> {
+    val result = ArrayList<Int>()
+    for (i in a..b step step) {
+        result.add(i)
+        if (result.size > 10) break
+    }
+    return result
+}
+
+fun downToStep(a: Int, b: Int, step: Int): List<Int> {
+    val result = ArrayList<Int>()
+    for (i in a downTo b step step) {
+        result.add(i)
+        if (result.size > 10) break
+    }
+    return result
+}
+
+fun untilStep(a: Int, b: Int, step: Int): List<Int> {
+    val result = ArrayList<Int>()
+    for (i in a until b step step) {
+        result.add(i)
+        if (result.size > 10) break
+    }
+    return result
+}
+
+fun box(): String {
+    val max = Int.MAX_VALUE
+    val min = Int.MIN_VALUE
+
+    if (rangeStep(1, 7, 3) != listOf(1, 4, 7)) return "Fail 1: ${rangeStep(1, 7, 3)}"
+    if (rangeStep(1, 8, 3) != listOf(1, 4, 7)) return "Fail 2: ${rangeStep(1, 8, 3)}"
+    if (rangeStep(7, 1, 3) != listOf<Int>()) return "Fail 3: ${rangeStep(7, 1, 3)}"
+    if (rangeStep(1, 1, 3) != listOf(1)) return "Fail 4: ${rangeStep(1, 1, 3)}"
+    if (rangeStep(max - 4, max, 2) != listOf(max - 4, max - 2, max)) return "Fail 5: ${rangeStep(max - 4, max, 2)}"
+    if (rangeStep(max - 4, max, 3) != listOf(max - 4, max - 1)) return "Fail 6: ${rangeStep(max - 4, max, 3)}"
+    if (rangeStep(max, max, max) != listOf(max)) return "Fail 7: ${rangeStep(max, max, max)}"
+    if (rangeStep(min, max, max) != listOf(min, -1, max - 1)) return "Fail 8: ${rangeStep(min, max, max)}"
+    if (rangeStep(0, max, max) != listOf(0, max)) return "Fail 9: ${rangeStep(0, max, max)}"
+    if (rangeStep(-1, max, max) != listOf(-1, max - 1)) return "Fail 10: ${rangeStep(-1, max, max)}"
+
+    if (downToStep(7, 1, 3) != listOf(7, 4, 1)) return "Fail 11: ${downToStep(7, 1, 3)}"
+    if (downToStep(8, 1, 3) != listOf(8, 5, 2)) return "Fail 12: ${downToStep(8, 1, 3)}"
+    if (downToStep(1, 7, 3) != listOf<Int>()) return "Fail 13: ${downToStep(1, 7, 3)}"
+    if (downToStep(min + 4, min, 2) != listOf(min + 4, min + 2, min)) return "Fail 14: ${downToStep(min + 4, min, 2)}"
+    if (downToStep(min + 4, min, 3) != listOf(min + 4, min + 1)) return "Fail 15: ${downToStep(min + 4, min, 3)}"
+    if (downToStep(max, min, max) != listOf(max, 0, -max)) return "Fail 16: ${downToStep(max, min, max)}"
+    if (downToStep(min, min, max) != listOf(min)) return "Fail 17: ${downToStep(min, min, max)}"
+
+    if (untilStep(1, 7, 3) != listOf(1, 4)) return "Fail 18: ${untilStep(1, 7, 3)}"
+    if (untilStep(1, 8, 3) != listOf(1, 4, 7)) return "Fail 19: ${untilStep(1, 8, 3)}"
+    if (untilStep(1, 1, 3) != listOf<Int>()) return "Fail 20: ${untilStep(1, 1, 3)}"
+    if (untilStep(max - 4, max, 2) != listOf(max - 4, max - 2)) return "Fail 21: ${untilStep(max - 4, max, 2)}"
+    if (untilStep(min, min, 2) != listOf<Int>()) return "Fail 22: ${untilStep(min, min, 2)}"
+    if (untilStep(0, min, 2) != listOf<Int>()) return "Fail 23: ${untilStep(0, min, 2)}"
+    if (untilStep(min, max, max) != listOf(min, -1, max - 1)) return "Fail 24: ${untilStep(min, max, max)}"
+
+    // The loops must iterate over the same elements as the progressions created by the library
+    val cases = listOf(Triple(1, 10, 4), Triple(-5, 5, 5), Triple(min, min + 10, 3), Triple(max - 10, max, 3), Triple(min, max, max))
+    for ((a, b, step) in cases) {
+        val range = a..b step step
+        if (rangeStep(a, b, step) != range.toList()) return "Fail $a..$b step $step: ${rangeStep(a, b, step)}"
+        val downTo = b downTo a step step
+        if (downToStep(b, a, step) != downTo.toList()) return "Fail $b downTo $a step $step: ${downToStep(b, a, step)}"
+        val until = a until b step step
+        if (untilStep(a, b, step) != until.toList()) return "Fail $a until $b step $step: ${untilStep(a, b, step)}"
+    }
+
+    return "OK"
+}
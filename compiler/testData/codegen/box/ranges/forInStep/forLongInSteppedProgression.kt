@@ -0,0 +1,60 @@
+// TARGET_BACKEND: JVM
+// WITH_RUNTIME
+
+fun rangeStep(a: Long, b: Long, step: Long): List<Long> {
+    val result = ArrayList<Long>()
+    for (i in a..b step step) {
+        result.add(i)
+        if (result.size > 10) break
+    }
+    return result
+}
+
+fun downToStep(a: Long, b: Long, step: Long): List<Long> {
+    val result = ArrayList<Long>()
+    for (i in a downTo b step step) {
+        result.add(i)
+        if (result.size > 10) break
+    }
+    return result
+}
+
+fun untilStep(a: Long, b: Long, step: Long): List<Long> {
+    val result = ArrayList<Long>()
+    for (i in a until b step step) {
+        result.add(i)
+        if (result.size > 10) break
+    }
+    return result
+}
+
+fun box(): String {
+    val max = Long.MAX_VALUE
+    val min = Long.MIN_VALUE
+
+    if (rangeStep(1L, 7L, 3L) != listOf(1L, 4L, 7L)) return "Fail 1: ${rangeStep(1L, 7L, 3L)}"
+    if (rangeStep(7L, 1L, 3L) != listOf<Long>()) return "Fail 2: ${rangeStep(7L, 1L, 3L)}"
+    if (rangeStep(max - 4, max, 3L) != listOf(max - 4, max - 1)) return "Fail 3: ${rangeStep(max - 4, max, 3L)}"
+    if (rangeStep(min, max, max) != listOf(min, -1L, max - 1)) return "Fail 4: ${rangeStep(min, max, max)}"
+
+    if (downToStep(8L, 1L, 3L) != listOf(8L, 5L, 2L)) return "Fail 5: ${downToStep(8L, 1L, 3L)}"
+    if (downToStep(min + 4, min, 3L) != listOf(min + 4, min + 1)) return "Fail 6: ${downToStep(min + 4, min, 3L)}"
+    if (downToStep(max, min, max) != listOf(max, 0L, -max)) return "Fail 7: ${downToStep(max, min, max)}"
+
+    if (untilStep(1L, 7L, 3L) != listOf(1L, 4L)) return "Fail 8: ${untilStep(1L, 7L, 3L)}"
+    if (untilStep(min, min, 2L) != listOf<Long>()) return "Fail 9: ${untilStep(min, min, 2L)}"
+    if (untilStep(max - 4, max, 2L) != listOf(max - 4, max - 2)) return "Fail 10: ${untilStep(max - 4, max, 2L)}"
+
+    // The loops must iterate over the same elements as the progressions created by the library
+    val cases = listOf(Triple(1L, 10L, 4L), Triple(min, min + 10, 3L), Triple(max - 10, max, 3L), Triple(min, max, max))
+    for ((a, b, step) in cases) {
+        val range = a..b step step
+        if (rangeStep(a, b, step) != range.toList()) return "Fail $a..$b step $step: ${rangeStep(a, b, step)}"
+        val downTo = b downTo a step step
+        if (downToStep(b, a, step) != downTo.toList()) return "Fail $b downTo $a step $step: ${downToStep(b, a, step)}"
+        val until = a until b step step
+        if (untilStep(a, b, step) != until.toList()) return "Fail $a until $b step $step: ${untilStep(a, b, step)}"
+    }
+
+    return "OK"
+}
@@ -0,0 +1,79 @@
+// TARGET_BACKEND: JVM
+// WITH_RUNTIME
+
+fun intRange(step: Int): String {
+    try {
+        for (i in 1..10 step step) {
+            return "Fail: loop body is executed for step $step"
+        }
+        return "Fail: no exception for step $step"
+    }
+    catch (e: IllegalArgumentException) {
+        return e.message!!
+    }
+}
+
+fun intEmptyDownTo(step: Int): String {
+    try {
+        for (i in 1 downTo 10 step step) {
+        }
+        return "Fail: no exception for step $step"
+    }
+    catch (e: IllegalArgumentException) {
+        return e.message!!
+    }
+}
+
+fun longUntil(step: Long): String {
+    try {
+        for (i in 1L until 10L step step) {
+        }
+        return "Fail: no exception for step $step"
+    }
+    catch (e: IllegalArgumentException) {
+        return e.message!!
+    }
+}
+
+fun charRange(step: Int): String {
+    try {
+        for (c in 'a'..'z' step step) {
+        }
+        return "Fail: no exception for step $step"
+    }
+    catch (e: IllegalArgumentException) {
+        return e.message!!
+    }
+}
+
+fun libraryMessage(step: Long): String {
+    try {
+        val progression = 1L..10L
+        progression step step
+        return "Fail: no exception in the library for step $step"
+    }
+    catch (e: IllegalArgumentException) {
+        return e.message!!
+    }
+}
+
+fun box(): String {
+    if (intRange(0) != "Step must be positive, was: 0.") return "Fail 1: ${intRange(0)}"
+    if (intRange(-1) != "Step must be positive, was: -1.") return "Fail 2: ${intRange(-1)}"
+    if (intRange(Int.MIN_VALUE) != "Step must be positive, was: ${Int.MIN_VALUE}.") return "Fail 3: ${intRange(Int.MIN_VALUE)}"
+
+    // The step is checked even if the progression is empty
+    if (intEmptyDownTo(0) != "Step must be positive, was: 0.") return "Fail 4: ${intEmptyDownTo(0)}"
+
+    if (longUntil(0L) != "Step must be positive, was: 0.") return "Fail 5: ${longUntil(0L)}"
+    if (longUntil(Long.MIN_VALUE) != "Step must be positive, was: ${Long.MIN_VALUE}.") return "Fail 6: ${longUntil(Long.MIN_VALUE)}"
+
+    if (charRange(-2) != "Step must be positive, was: -2.") return "Fail 7: ${charRange(-2)}"
+
+    // The message is the same as the one of the library
+    for (step in listOf(0L, -1L, Long.MIN_VALUE)) {
+        if (longUntil(step) != libraryMessage(step)) return "Fail 8: ${longUntil(step)} != ${libraryMessage(step)}"
+    }
+
+    return "OK"
+}
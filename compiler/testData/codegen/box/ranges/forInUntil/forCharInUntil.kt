@@ -0,0 +1,23 @@
+// TARGET_BACKEND: JVM
+// WITH_RUNTIME
+
+fun charUntil(a: Char, b: Char): String {
+    val result = StringBuilder()
+    for (c in a until b) {
+        result.append(c)
+        if (result.length > 10) break
+    }
+    return result.toString()
+}
+
+fun box(): String {
+    if (charUntil('a', 'd') != "abc") return "Fail 1: ${charUntil('a', 'd')}"
+    if (charUntil('a', 'a') != "") return "Fail 2: ${charUntil('a', 'a')}"
+    if (charUntil('d', 'a') != "") return "Fail 3: ${charUntil('d', 'a')}"
+    // '\u0000' - 1 overflows, so the range must be checked for emptiness first
+    if (charUntil('a', '\u0000') != "") return "Fail 4: ${charUntil('a', '\u0000')}"
+    if (charUntil('\u0000', '\u0000') != "") return "Fail 5: ${charUntil('\u0000', '\u0000')}"
+    if (charUntil('\uFFFD', '\uFFFF') != "\uFFFD\uFFFE") return "Fail 6: ${charUntil('\uFFFD', '\uFFFF')}"
+
+    return "OK"
+}
@@ -0,0 +1,42 @@
+// TARGET_BACKEND: JVM
+// WITH_RUNTIME
+
+fun intUntil(a: Int, b: Int): List<Int> {
+    val result = ArrayList<Int>()
+    for (i in a until b) {
+        result.add(i)
+        if (result.size > 10) break
+    }
+    return result
+}
+
+fun byteUntil(a: Byte, b: Byte): List<Int> {
+    val result = ArrayList<Int>()
+    for (i in a until b) {
+        result.add(i)
+        if (result.size > 10) break
+    }
+    return result
+}
+
+fun box(): String {
+    if (intUntil(1, 4) != listOf(1, 2, 3)) return "Fail 1: ${intUntil(1, 4)}"
+    if (intUntil(4, 4) != listOf<Int>()) return "Fail 2: ${intUntil(4, 4)}"
+    if (intUntil(5, 1) != listOf<Int>()) return "Fail 3: ${intUntil(5, 1)}"
+    if (intUntil(-2, 1) != listOf(-2, -1, 0)) return "Fail 4: ${intUntil(-2, 1)}"
+
+    val max = Int.MAX_VALUE
+    val min = Int.MIN_VALUE
+    if (intUntil(max - 2, max) != listOf(max - 2, max - 1)) return "Fail 5: ${intUntil(max - 2, max)}"
+    if (intUntil(max, max) != listOf<Int>()) return "Fail 6: ${intUntil(max, max)}"
+    if (intUntil(min, min + 2) != listOf(min, min + 1)) return "Fail 7: ${intUntil(min, min + 2)}"
+    // 'min - 1' overflows, so the range must be checked for emptiness first
+    if (intUntil(min, min) != listOf<Int>()) return "Fail 8: ${intUntil(min, min)}"
+    if (intUntil(0, min) != listOf<Int>()) return "Fail 9: ${intUntil(0, min)}"
+    if (intUntil(max, min) != listOf<Int>()) return "Fail 10: ${intUntil(max, min)}"
+
+    if (byteUntil(1, 3) != listOf(1, 2)) return "Fail 11: ${byteUntil(1, 3)}"
+    if (byteUntil(Byte.MIN_VALUE, Byte.MIN_VALUE) != listOf<Int>()) return "Fail 12: ${byteUntil(Byte.MIN_VALUE, Byte.MIN_VALUE)}"
+
+    return "OK"
+}
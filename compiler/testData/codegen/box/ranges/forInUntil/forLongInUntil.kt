@@ -0,0 +1,35 @@
+// TARGET_BACKEND: JVM
+// WITH_RUNTIME
+
+fun longUntil(a: Long, b: Long): List<Long> {
+    val result = ArrayList<Long>()
+    for (i in a until b) {
+        result.add(i)
+        if (result.size > 10) break
+    }
+    return result
+}
+
+fun box(): String {
+    if (longUntil(1L, 4L) != listOf(1L, 2L, 3L)) return "Fail 1: ${longUntil(1L, 4L)}"
+    if (longUntil(4L, 4L) != listOf<Long>()) return "Fail 2: ${longUntil(4L, 4L)}"
+    if (longUntil(5L, 1L) != listOf<Long>()) return "Fail 3: ${longUntil(5L, 1L)}"
+
+    val max = Long.MAX_VALUE
+    val min = Long.MIN_VALUE
+    if (longUntil(max - 2, max) != listOf(max - 2, max - 1)) return "Fail 4: ${longUntil(max - 2, max)}"
+    if (longUntil(max, max) != listOf<Long>()) return "Fail 5: ${longUntil(max, max)}"
+    if (longUntil(min, min + 2) != listOf(min, min + 1)) return "Fail 6: ${longUntil(min, min + 2)}"
+    // 'min - 1' overflows, so the range must be checked for emptiness first
+    if (longUntil(min, min) != listOf<Long>()) return "Fail 7: ${longUntil(min, min)}"
+    if (longUntil(0L, min) != listOf<Long>()) return "Fail 8: ${longUntil(0L, min)}"
+
+    // Int bounds are converted to Long
+    var sum = 0L
+    for (i in Int.MAX_VALUE.toLong() until Int.MAX_VALUE.toLong() + 3) {
+        sum += i - Int.MAX_VALUE
+    }
+    if (sum != 3L) return "Fail 9: $sum"
+
+    return "OK"
+}
@@ -0,0 +1,55 @@
+// WITH_RUNTIME
+
+import kotlin.test.*
+
+fun ints(vararg data: Int): IntArray = data
+
+fun longs(vararg data: Long): LongArray = data
+
+fun chars(vararg data: Char): CharArray = data
+
+fun strings(vararg data: String): Array<out String> = data
+
+fun anys(vararg data: Any): Array<out Any> = data
+
+fun <T> generic(vararg data: T): Array<out T> = data
+
+var log = ""
+
+fun logged(name: String, array: IntArray): IntArray {
+    log += name
+    return array
+}
+
+fun box(): String {
+    val a = intArrayOf(1, 2)
+    val b = intArrayOf(3)
+    val empty = IntArray(0)
+    assertEquals("0, 1, 2, 4, 3, 5", ints(0, *a, 4, *b, 5).joinToString())
+    assertEquals("1, 2, 1, 2, 6", ints(*a, *a, 6).joinToString())
+    assertEquals("7, 8", ints(*empty, 7, *empty, 8, *empty).joinToString())
+    assertEquals("3, 1, 2, 9", ints(*logged("b", b), *logged("a", a), 9).joinToString())
+    assertEquals("ba", log)
+
+    val copy = ints(*a, 3)
+    a[0] = 42
+    assertEquals(1, copy[0], "Failed: IntArray was not copied")
+
+    assertEquals("1, 2, 3, 4", longs(1L, *longArrayOf(2L, 3L), 4L).joinToString())
+    assertEquals("xyz", chars('x', *charArrayOf('y'), 'z').joinToString(""))
+
+    val s = arrayOf("b", "c")
+    assertEquals("a, b, c, d", strings("a", *s, "d").joinToString())
+    assertEquals("a, b, c, d", generic("a", *s, "d").joinToString())
+
+    val covariant = anys(*arrayOf("a"), 1, *s, 'c', 2L)
+    assertEquals("a, 1, b, c, c, 2", covariant.joinToString())
+
+    // The result must be an Array<Any>, even though the first spread array is an Array<String>
+    @Suppress("UNCHECKED_CAST")
+    val mutable = covariant as Array<Any>
+    mutable[0] = 42
+    assertEquals(42, covariant[0])
+
+    return "OK"
+}
@@ -0,0 +1,13 @@
+import kotlin.reflect.KProperty
+
+class Delegate(var result: String) {
+    inline operator fun getValue(thisRef: Any?, property: KProperty<*>): String = result
+
+    inline operator fun setValue(thisRef: Any?, property: KProperty<*>, value: String) {
+        result = value
+    }
+}
+
+class A {
+    var x: String by Delegate("OK")
+}
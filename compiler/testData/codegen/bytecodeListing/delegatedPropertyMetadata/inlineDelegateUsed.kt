@@ -0,0 +1,9 @@
+import kotlin.reflect.KProperty
+
+class Delegate {
+    inline operator fun getValue(thisRef: Any?, property: KProperty<*>): String = property.name
+}
+
+class A {
+    val x: String by Delegate()
+}
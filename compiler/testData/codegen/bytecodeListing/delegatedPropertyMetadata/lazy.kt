@@ -0,0 +1,5 @@
+// WITH_RUNTIME
+
+class A {
+    val x: String by lazy { "OK" }
+}
@@ -0,0 +1,9 @@
+import kotlin.reflect.KProperty
+
+class Delegate {
+    operator fun getValue(thisRef: Any?, property: KProperty<*>): String = "OK"
+}
+
+class A {
+    val x: String by Delegate()
+}
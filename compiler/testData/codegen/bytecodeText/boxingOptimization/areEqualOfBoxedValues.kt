@@ -0,0 +1,13 @@
+private inline fun <T> equalsInline(a: T, b: T) = a == b
+
+fun equalInts(x: Int, y: Int) = equalsInline(x, y)
+
+fun equalLongs(x: Long, y: Long) = equalsInline(x, y)
+
+fun equalChars(x: Char, y: Char) = equalsInline(x, y)
+
+// 0 valueOf
+// 0 Value\s\(\)
+// 1 areEqual
+// 1 LCMP
+// 2 ISUB
@@ -0,0 +1,14 @@
+private inline fun <T : Comparable<T>> compareInline(a: T, b: T) = a.compareTo(b)
+
+fun compareInts(x: Int, y: Int) = compareInline(x, y)
+
+fun compareLongs(x: Long, y: Long) = compareInline(x, y)
+
+fun compareChars(x: Char, y: Char) = compareInline(x, y)
+
+// 0 valueOf
+// 0 Value\s\(\)
+// 1 INVOKEINTERFACE java/lang/Comparable.compareTo
+// 1 INVOKESTATIC kotlin/jvm/internal/Intrinsics.compare \(II\)I
+// 1 LCMP
+// 1 ISUB
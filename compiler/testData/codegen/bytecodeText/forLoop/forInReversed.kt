@@ -0,0 +1,34 @@
+fun reversedRange(a: Int, b: Int): Int {
+    var sum = 0
+    for (i in (a..b).reversed()) {
+        sum = sum * 10 + i
+    }
+    return sum
+}
+
+fun reversedDownTo(a: Long, b: Long): Long {
+    var sum = 0L
+    for (i in (a downTo b).reversed()) {
+        sum = sum * 10 + i
+    }
+    return sum
+}
+
+fun reversedCharRange(a: Char, b: Char): Int {
+    var sum = 0
+    for (c in (a..b).reversed()) {
+        sum = sum * 10 + c.toInt()
+    }
+    return sum
+}
+
+// 0 iterator
+// 0 getFirst
+// 0 getLast
+// 0 getStep
+// 0 IntProgression
+// 0 IntRange
+// 0 LongProgression
+// 0 CharProgression
+// 0 CharRange
+// 0 kotlin/ranges/RangesKt
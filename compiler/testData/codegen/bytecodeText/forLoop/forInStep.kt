@@ -0,0 +1,36 @@
+fun rangeStep(a: Int, b: Int, step: Int): Int {
+    var sum = 0
+    for (i in a..b step step) {
+        sum += i
+    }
+    return sum
+}
+
+fun downToStep(a: Long, b: Long, step: Long): Long {
+    var sum = 0L
+    for (i in a downTo b step step) {
+        sum += i
+    }
+    return sum
+}
+
+fun untilStep(a: Char, b: Char, step: Int): Int {
+    var sum = 0
+    for (c in a until b step step) {
+        sum += c.toInt()
+    }
+    return sum
+}
+
+// 0 iterator
+// 0 getFirst
+// 0 getLast
+// 0 getStep
+// 0 IntProgression
+// 0 IntRange
+// 0 LongProgression
+// 0 CharProgression
+// 0 CharRange
+// 0 kotlin/ranges/RangesKt
+// 3 NEW java/lang/IllegalArgumentException
+// 3 LDC "Step must be positive, was: "
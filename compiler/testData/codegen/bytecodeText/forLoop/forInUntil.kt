@@ -0,0 +1,31 @@
+fun intUntil(a: Int, b: Int): Int {
+    var sum = 0
+    for (i in a until b) {
+        sum += i
+    }
+    return sum
+}
+
+fun longUntil(a: Long, b: Long): Long {
+    var sum = 0L
+    for (i in a until b) {
+        sum += i
+    }
+    return sum
+}
+
+fun charUntil(a: Char, b: Char): Int {
+    var sum = 0
+    for (c in a until b) {
+        sum += c.toInt()
+    }
+    return sum
+}
+
+// 0 iterator
+// 0 getFirst
+// 0 getLast
+// 0 IntRange
+// 0 LongRange
+// 0 CharRange
+// 0 kotlin/ranges/RangesKt
@@ -2,11 +2,15 @@ fun f() {
     for (i in 0..5 step 2) {
     }
 
-    for (i in 5 downTo 1 step 1) { // suppress optimized code generation for 'for-in-downTo'
+    for (i in 5 downTo 1 step 1) {
+    }
+
+    val progression = 0..5 step 2
+    for (i in progression) {
     }
 }
 
 // 0 iterator
-// 2 getFirst
-// 2 getLast
-// 2 getStep
\ No newline at end of file
+// 1 getFirst
+// 1 getLast
+// 1 getStep
@@ -0,0 +1,17 @@
+// JVM_TARGET: 1.8
+// FILE: J.java
+
+public class J {
+    public static void run(Runnable runnable) {
+        runnable.run();
+    }
+}
+
+// FILE: test.kt
+
+fun test(f: () -> Unit) {
+    J.run(f)
+}
+
+// 0 INVOKEDYNAMIC
+// 1 NEW .*\$sam\$
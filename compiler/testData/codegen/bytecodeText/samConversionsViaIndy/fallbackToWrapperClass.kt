@@ -0,0 +1,36 @@
+// JVM_TARGET: 1.8
+// KOTLIN_CONFIGURATION_FLAGS: +JVM.SAM_CONVERSIONS_VIA_INDY
+// FILE: J.java
+
+public class J {
+    public interface Base<T> {
+        String call(T value);
+    }
+
+    public interface StringBase extends Base<String> {
+        String call(String value);
+    }
+
+    public static String call(StringBase sam) {
+        return sam.call("");
+    }
+
+    public static void run(Runnable runnable) {
+        runnable.run();
+    }
+}
+
+// FILE: test.kt
+
+// Needs a bridge for Base.call, which the metafactory doesn't generate
+fun test(f: (String) -> String) {
+    J.call(f)
+}
+
+// The inliner doesn't transform invokedynamic instructions
+inline fun runInline(noinline f: () -> Unit) {
+    J.run(f)
+}
+
+// 0 INVOKEDYNAMIC
+// 2 NEW .*\$sam\$
@@ -0,0 +1,40 @@
+// JVM_TARGET: 1.8
+// KOTLIN_CONFIGURATION_FLAGS: +JVM.SAM_CONVERSIONS_VIA_INDY
+// FILE: J.java
+
+public class J {
+    public interface Transformer<T, R> {
+        R transform(T value);
+    }
+
+    public interface IntOperator {
+        int apply(int x);
+    }
+
+    public static <T, R> R apply(Transformer<T, R> transformer, T value) {
+        return transformer.transform(value);
+    }
+
+    public static int apply(IntOperator operator, int x) {
+        return operator.apply(x);
+    }
+
+    public static void run(Runnable runnable) {
+        runnable.run();
+    }
+}
+
+// FILE: test.kt
+
+fun test(f: (String) -> Int, g: (Int) -> Int, h: () -> Unit) {
+    J.apply(f, "")
+    J.apply(g, 0)
+    J.run(h)
+}
+
+// 3 INVOKEDYNAMIC
+// 3 java/lang/invoke/LambdaMetafactory\.metafactory
+// 1 INVOKEDYNAMIC transform\(Lkotlin/jvm/functions/Function1;\)LJ\$Transformer;
+// 1 INVOKEDYNAMIC apply\(Lkotlin/jvm/functions/Function1;\)LJ\$IntOperator;
+// 1 INVOKEDYNAMIC run\(Lkotlin/jvm/functions/Function0;\)Ljava/lang/Runnable;
+// 0 \$sam\$
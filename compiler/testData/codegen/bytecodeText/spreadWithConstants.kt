@@ -0,0 +1,14 @@
+fun ints(vararg data: Int) = data
+
+fun strings(vararg data: String) = data
+
+fun anys(vararg data: Any) = data
+
+fun test(a: IntArray, s: Array<String>) {
+    ints(0, *a, 1, *a)
+    strings("a", *s, "b")
+    anys(*s, 1, 'c')
+}
+
+// 0 SpreadBuilder
+// 4 INVOKESTATIC java/lang/System.arraycopy
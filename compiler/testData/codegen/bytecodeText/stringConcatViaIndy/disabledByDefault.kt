@@ -0,0 +1,6 @@
+// JVM_TARGET: 1.8
+
+fun template(a: String, b: Int, c: Long) = "a=$a, b=$b, c=$c"
+
+// 0 INVOKEDYNAMIC
+// 1 NEW java/lang/StringBuilder
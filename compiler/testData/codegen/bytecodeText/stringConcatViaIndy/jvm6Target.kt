@@ -0,0 +1,6 @@
+// KOTLIN_CONFIGURATION_FLAGS: +JVM.STRING_CONCAT_VIA_INDY
+
+fun template(a: String, b: Int, c: Long) = "a=$a, b=$b, c=$c"
+
+// 0 INVOKEDYNAMIC
+// 1 NEW java/lang/StringBuilder
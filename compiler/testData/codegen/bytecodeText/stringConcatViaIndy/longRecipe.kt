@@ -0,0 +1,14 @@
+// JVM_TARGET: 1.8
+// KOTLIN_CONFIGURATION_FLAGS: +JVM.STRING_CONCAT_VIA_INDY
+
+// C4 takes 19000 bytes in the recipe, so the fourth one doesn't fit into 65535 bytes
+const val C1 = "\u0430\u0431\u0432\u0433\u0434\u4e2d\u6587abc"
+const val C2 = C1 + C1 + C1 + C1 + C1 + C1 + C1 + C1 + C1 + C1
+const val C3 = C2 + C2 + C2 + C2 + C2 + C2 + C2 + C2 + C2 + C2
+const val C4 = C3 + C3 + C3 + C3 + C3 + C3 + C3 + C3 + C3 + C3
+
+fun test(x: Int): String = "$C4$x$C4$x$C4$x$C4$x"
+
+// 2 INVOKEDYNAMIC makeConcatWithConstants
+// 1 INVOKEDYNAMIC makeConcatWithConstants\(III\)Ljava/lang/String;
+// 1 INVOKEDYNAMIC makeConcatWithConstants\(Ljava/lang/String;I\)Ljava/lang/String;
@@ -0,0 +1,10 @@
+// JVM_TARGET: 1.8
+// KOTLIN_CONFIGURATION_FLAGS: +JVM.STRING_CONCAT_VIA_INDY
+
+// The first call site takes 200 parameter slots, and its result is the first argument of the second one
+fun test(l: Long, d: Double, s: String): String =
+        "$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;"
+
+// 2 INVOKEDYNAMIC makeConcatWithConstants
+// 1 INVOKEDYNAMIC makeConcatWithConstants\((JDLjava/lang/String;){40}\)Ljava/lang/String;
+// 1 INVOKEDYNAMIC makeConcatWithConstants\(Ljava/lang/String;(JDLjava/lang/String;){10}\)Ljava/lang/String;
@@ -0,0 +1,12 @@
+// JVM_TARGET: 1.8
+// KOTLIN_CONFIGURATION_FLAGS: +JVM.STRING_CONCAT_VIA_INDY
+
+fun template(a: String, b: Int, c: Long) = "a=$a, b=$b, c=$c"
+
+fun plus(a: String, b: Int, c: Long) = a + "=" + b + c
+
+// 2 INVOKEDYNAMIC makeConcatWithConstants\(Ljava/lang/String;IJ\)Ljava/lang/String;
+// 2 java/lang/invoke/StringConcatFactory\.makeConcatWithConstants
+// 1 "a=\\u0001, b=\\u0001, c=\\u0001"
+// 1 "\\u0001=\\u0001\\u0001"
+// 0 StringBuilder
@@ -0,0 +1,10 @@
+// JVM_TARGET: 1.8
+// KOTLIN_CONFIGURATION_FLAGS: +JVM.STRING_CONCAT_VIA_INDY
+
+// Strings with the tag characters are passed as separate constants
+fun test(a: String) = "[$a]${"<\u0001|\u0002>"}${'\u0002'}"
+
+// 1 INVOKEDYNAMIC makeConcatWithConstants\(Ljava/lang/String;\)Ljava/lang/String;
+// 1 "\[\\u0001\]\\u0002\\u0002"
+// 1 "<\\u0001\|\\u0002>"
+// 1 "\\u0002"
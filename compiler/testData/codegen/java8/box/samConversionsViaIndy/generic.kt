@@ -0,0 +1,52 @@
+// JVM_TARGET: 1.8
+// KOTLIN_CONFIGURATION_FLAGS: +JVM.SAM_CONVERSIONS_VIA_INDY
+// FILE: J.java
+
+import java.util.*;
+
+public class J {
+    public interface Transformer<T, R> {
+        R transform(T value);
+    }
+
+    public interface Measure<T extends CharSequence> {
+        int measure(T value);
+    }
+
+    public static <T, R> R apply(Transformer<T, R> transformer, T value) {
+        return transformer.transform(value);
+    }
+
+    public static <T extends CharSequence> int measure(Measure<T> measure, T value) {
+        return measure.measure(value);
+    }
+
+    public static List<String> sort(List<String> list, Comparator<String> comparator) {
+        List<String> result = new ArrayList<String>(list);
+        Collections.sort(result, comparator);
+        return result;
+    }
+}
+
+// FILE: generic.kt
+
+fun box(): String {
+    val length: (String) -> Int = { it.length }
+    val lengthResult: Int = J.apply(length, "abc")
+    if (lengthResult != 3) return "Fail 1: $lengthResult"
+
+    val toList: (Int) -> List<Int> = { listOf(it, it) }
+    val listResult: List<Int> = J.apply(toList, 7)
+    if (listResult != listOf(7, 7)) return "Fail 2: $listResult"
+
+    val measure: (StringBuilder) -> Int = { it.length * 2 }
+    val measureResult = J.measure(measure, StringBuilder("ab"))
+    if (measureResult != 4) return "Fail 3: $measureResult"
+
+    val byLength: (String, String) -> Int = { a, b -> a.length - b.length }
+    val sorted = J.sort(listOf("ccc", "a", "bb"), byLength)
+    if (sorted != listOf("a", "bb", "ccc")) return "Fail 4: $sorted"
+
+    val concat: (String) -> String = { it + "K" }
+    return J.apply(concat, "O")
+}
@@ -0,0 +1,23 @@
+// JVM_TARGET: 1.8
+// KOTLIN_CONFIGURATION_FLAGS: +JVM.SAM_CONVERSIONS_VIA_INDY
+// FILE: J.java
+
+public class J {
+    public interface Producer {
+        String produce();
+    }
+
+    public static String call(Producer producer) {
+        return producer.produce();
+    }
+}
+
+// FILE: inlineFunction.kt
+
+// SAM conversions in inline functions are generated with wrapper classes, which the inliner knows how to copy
+inline fun callInline(noinline f: () -> String): String = J.call(f)
+
+fun box(): String {
+    val o = "O"
+    return callInline { o + "K" }
+}
@@ -0,0 +1,26 @@
+// JVM_TARGET: 1.8
+// KOTLIN_CONFIGURATION_FLAGS: +JVM.SAM_CONVERSIONS_VIA_INDY
+// FILE: J.java
+
+public class J {
+    public interface Base<T> {
+        String call(T value);
+    }
+
+    // The metafactory would not generate the bridge for Base.call, so a SAM wrapper class is used here
+    public interface StringBase extends Base<String> {
+        String call(String value);
+    }
+
+    public static String callViaBase(StringBase sam) {
+        Base<String> base = sam;
+        return base.call("O");
+    }
+}
+
+// FILE: overridingMethodNeedsBridge.kt
+
+fun box(): String {
+    val f: (String) -> String = { it + "K" }
+    return J.callViaBase(f)
+}
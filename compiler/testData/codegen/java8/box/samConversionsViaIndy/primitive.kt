@@ -0,0 +1,74 @@
+// JVM_TARGET: 1.8
+// KOTLIN_CONFIGURATION_FLAGS: +JVM.SAM_CONVERSIONS_VIA_INDY
+// FILE: J.java
+
+public class J {
+    public interface IntOperator {
+        int apply(int x);
+    }
+
+    public interface LongCondition {
+        boolean test(long x);
+    }
+
+    public interface DoubleProducer {
+        double get();
+    }
+
+    public interface CharConsumer {
+        void accept(char c);
+    }
+
+    public interface Mixed {
+        long combine(byte b, short s, float f, Object o);
+    }
+
+    public static int applyTwice(IntOperator operator, int x) {
+        return operator.apply(operator.apply(x));
+    }
+
+    public static boolean test(LongCondition condition, long x) {
+        return condition.test(x);
+    }
+
+    public static double get(DoubleProducer producer) {
+        return producer.get();
+    }
+
+    public static void acceptAll(CharConsumer consumer, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            consumer.accept(s.charAt(i));
+        }
+    }
+
+    public static long combine(Mixed mixed) {
+        return mixed.combine((byte) 1, (short) 20, 300.5f, "4000");
+    }
+}
+
+// FILE: primitive.kt
+
+fun box(): String {
+    val inc: (Int) -> Int = { it + 1 }
+    val twice = J.applyTwice(inc, Int.MAX_VALUE - 2)
+    if (twice != Int.MAX_VALUE) return "Fail 1: $twice"
+
+    val isBig: (Long) -> Boolean = { it > Int.MAX_VALUE }
+    if (!J.test(isBig, Long.MAX_VALUE)) return "Fail 2"
+    if (J.test(isBig, 0L)) return "Fail 3"
+
+    val pi: () -> Double = { 3.5 }
+    val d = J.get(pi)
+    if (d != 3.5) return "Fail 4: $d"
+
+    val chars = StringBuilder()
+    val append: (Char) -> Unit = { chars.append(it.toUpperCase()) }
+    J.acceptAll(append, "ok")
+    if (chars.toString() != "OK") return "Fail 5: $chars"
+
+    val combine: (Byte, Short, Float, Any) -> Long = { b, s, f, o -> b + s + f.toLong() + (o as String).toLong() }
+    val combined = J.combine(combine)
+    if (combined != 4321L) return "Fail 6: $combined"
+
+    return chars.toString()
+}
@@ -0,0 +1,36 @@
+// JVM_TARGET: 1.8
+// KOTLIN_CONFIGURATION_FLAGS: +JVM.SAM_CONVERSIONS_VIA_INDY
+// FILE: J.java
+
+public class J {
+    public interface Producer {
+        String produce();
+    }
+
+    public static String call(Producer producer) {
+        return producer.produce();
+    }
+
+    public static boolean isNull(Producer producer) {
+        return producer == null;
+    }
+}
+
+// FILE: simple.kt
+
+fun box(): String {
+    val k = "K"
+    val f = { "O" + k }
+    if (J.call(f) != "OK") return "Fail 1: ${J.call(f)}"
+
+    var counter = 0
+    val g: () -> String = { counter++; "OK" }
+    J.call(g)
+    J.call(g)
+    if (counter != 2) return "Fail 2: $counter"
+
+    val nullable: (() -> String)? = null
+    if (!J.isNull(nullable)) return "Fail 3"
+
+    return J.call(f)
+}
@@ -0,0 +1,27 @@
+// JVM_TARGET: 1.8
+// KOTLIN_CONFIGURATION_FLAGS: +JVM.STRING_CONCAT_VIA_INDY
+
+// Each character of C1 takes one, two or three bytes in the recipe, which can't be longer than 65535 bytes
+const val C1 = "\u0430\u0431\u0432\u0433\u0434\u4e2d\u6587abc"
+const val C2 = C1 + C1 + C1 + C1 + C1 + C1 + C1 + C1 + C1 + C1
+const val C3 = C2 + C2 + C2 + C2 + C2 + C2 + C2 + C2 + C2 + C2
+const val C4 = C3 + C3 + C3 + C3 + C3 + C3 + C3 + C3 + C3 + C3
+
+fun test(x: Int): String = "$C4$x$C4$x$C4$x$C4$x"
+
+fun plus(x: Int): String = C4 + x + C4 + x + C4 + x + C4 + x
+
+fun box(): String {
+    // StringConcatFactory is available since Java 9
+    if (System.getProperty("java.specification.version").startsWith("1.")) return "OK"
+
+    val expected = StringBuilder()
+    for (i in 1..4) {
+        expected.append(C4).append(42)
+    }
+
+    if (test(42) != expected.toString()) return "Fail 1"
+    if (plus(42) != expected.toString()) return "Fail 2"
+
+    return "OK"
+}
@@ -0,0 +1,30 @@
+// JVM_TARGET: 1.8
+// KOTLIN_CONFIGURATION_FLAGS: +JVM.STRING_CONCAT_VIA_INDY
+
+// Each call site takes at most 200 parameter slots, where Long and Double values take two slots each
+fun test(l: Long, d: Double, s: String): String =
+        "$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;$l,$d,$s;"
+
+fun plus(s: String, l: Long): String =
+        s + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l + l
+
+fun box(): String {
+    // StringConcatFactory is available since Java 9
+    if (System.getProperty("java.specification.version").startsWith("1.")) return "OK"
+
+    val expected = StringBuilder()
+    for (i in 1..50) {
+        expected.append("1,2.0,s;")
+    }
+    val result = test(1L, 2.0, "s")
+    if (result != expected.toString()) return "Fail 1: $result"
+
+    val expectedPlus = StringBuilder("s")
+    for (i in 1..110) {
+        expectedPlus.append(7L)
+    }
+    val plus = plus("s", 7L)
+    if (plus != expectedPlus.toString()) return "Fail 2: $plus"
+
+    return "OK"
+}
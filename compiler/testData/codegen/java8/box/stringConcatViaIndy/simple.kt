@@ -0,0 +1,26 @@
+// JVM_TARGET: 1.8
+// KOTLIN_CONFIGURATION_FLAGS: +JVM.STRING_CONCAT_VIA_INDY
+
+const val NAME = "const"
+
+class A {
+    override fun toString() = "A"
+}
+
+fun test(s: String?, i: Int, l: Long, c: Char, z: Boolean, d: Double, f: Float, a: Any?, array: IntArray): String =
+        "s=$s, i=$i, l=$l, c=$c, z=$z, d=$d, f=$f, a=$a, $NAME, ${1 + 2}, ${'x'}, " + array.size + s
+
+fun plus(s: String, b: Byte, sh: Short, a: A): String = s + b + sh + a + NAME + 1L + s
+
+fun box(): String {
+    // StringConcatFactory is available since Java 9
+    if (System.getProperty("java.specification.version").startsWith("1.")) return "OK"
+
+    val result = test(null, 1, 2L, 'c', true, 1.5, 2.5f, A(), IntArray(3))
+    if (result != "s=null, i=1, l=2, c=c, z=true, d=1.5, f=2.5, a=A, const, 3, x, 3null") return "Fail 1: $result"
+
+    val plus = plus("s", 1, 2, A())
+    if (plus != "s12Aconst1s") return "Fail 2: $plus"
+
+    return "OK"
+}
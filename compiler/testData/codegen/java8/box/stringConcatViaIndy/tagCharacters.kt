@@ -0,0 +1,21 @@
+// JVM_TARGET: 1.8
+// KOTLIN_CONFIGURATION_FLAGS: +JVM.STRING_CONCAT_VIA_INDY
+
+const val TAGS = "<\u0001|\u0002>"
+
+fun test(a: String, b: Int) = "\u0001$a\u0002$b$TAGS${'\u0001'}${"\u0002"}$a"
+
+fun plus(a: String) = a + TAGS + a + '\u0002'
+
+fun box(): String {
+    // StringConcatFactory is available since Java 9
+    if (System.getProperty("java.specification.version").startsWith("1.")) return "OK"
+
+    val result = test("x", 1)
+    if (result != "\u0001x\u00021<\u0001|\u0002>\u0001\u0002x") return "Fail 1: $result"
+
+    val plus = plus("\u0001")
+    if (plus != "\u0001<\u0001|\u0002>\u0001\u0002") return "Fail 2: $plus"
+
+    return "OK"
+}
@@ -0,0 +1,5 @@
+package test
+
+class A {
+    fun oldFunction() {}
+}
@@ -0,0 +1,7 @@
+package test
+
+class A {
+    fun newFunction(): String = "OK"
+
+    fun anotherNewFunction() {}
+}
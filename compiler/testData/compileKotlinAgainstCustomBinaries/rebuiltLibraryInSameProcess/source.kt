@@ -0,0 +1,3 @@
+import test.A
+
+fun box(): String = A().newFunction()
@@ -13,6 +13,8 @@ open class Derived1_inT<in T>() : Base_inT<T>, Derived_T<T>
 open class Base_outT<out T>()
 open class Derived_outT<out T>() : Base_outT<T>
 open class MDerived_T<T>() : Base_outT<out T>, Base_T<T>
+open class Sub_ListT<T>() : Base_T<List<T>>
+open class SubSub_ListT<E>() : Sub_ListT<E>
 
 class Properties() { val p : Int }
 class Props<T>() { val p : T }
@@ -107,6 +107,7 @@ public abstract class AbstractCompileKotlinAgainstKotlinTest extends CodegenTest
                 createConfiguration(ConfigurationKind.ALL, getJdkKind(files),
                                     Collections.singletonList(KotlinTestUtils.getAnnotationsJar()),
                                     Collections.<File>emptyList(), Collections.singletonList(testFile));
+        updateConfiguration(configuration);
 
         KotlinCoreEnvironment environment = KotlinCoreEnvironment.createForTests(
                 compileDisposable, configuration, EnvironmentConfigFiles.JVM_CONFIG_FILES);
@@ -120,6 +121,7 @@ public abstract class AbstractCompileKotlinAgainstKotlinTest extends CodegenTest
                 createConfiguration(ConfigurationKind.ALL, getJdkKind(files),
                                     Lists.newArrayList(KotlinTestUtils.getAnnotationsJar(), aDir),
                                     Collections.<File>emptyList(), Collections.singletonList(testFile));
+        updateConfiguration(configurationWithADirInClasspath);
 
         Disposable compileDisposable = createDisposable("compileB");
         KotlinCoreEnvironment environment = KotlinCoreEnvironment.createForTests(
@@ -94,19 +94,26 @@ public abstract class AbstractLoadJavaTest extends TestCaseWithTmpdir {
     }
 
     protected void doTestCompiledKotlin(@NotNull String ktFileName) throws Exception {
-        doTestCompiledKotlin(ktFileName, ConfigurationKind.JDK_ONLY, false);
+        doTestCompiledKotlin(ktFileName, ConfigurationKind.JDK_ONLY, false, false);
     }
 
     protected void doTestCompiledKotlinWithTypeTable(@NotNull String ktFileName) throws Exception {
-        doTestCompiledKotlin(ktFileName, ConfigurationKind.JDK_ONLY, true);
+        doTestCompiledKotlin(ktFileName, ConfigurationKind.JDK_ONLY, true, false);
+    }
+
+    protected void doTestCompiledKotlinWithLazyMemberDeserialization(@NotNull String ktFileName) throws Exception {
+        doTestCompiledKotlin(ktFileName, ConfigurationKind.JDK_ONLY, false, true);
     }
 
     protected void doTestCompiledKotlinWithStdlib(@NotNull String ktFileName) throws Exception {
-        doTestCompiledKotlin(ktFileName, ConfigurationKind.ALL, false);
+        doTestCompiledKotlin(ktFileName, ConfigurationKind.ALL, false, false);
     }
 
     private void doTestCompiledKotlin(
-            @NotNull String ktFileName, @NotNull ConfigurationKind configurationKind, boolean useTypeTableInSerializer
+            @NotNull String ktFileName,
+            @NotNull ConfigurationKind configurationKind,
+            boolean useTypeTableInSerializer,
+            boolean lazyMemberDeserialization
     ) throws Exception {
         File ktFile = new File(ktFileName);
         File txtFile = new File(ktFileName.replaceFirst("\\.kt$", ".txt"));
@@ -123,7 +130,7 @@ public abstract class AbstractLoadJavaTest extends TestCaseWithTmpdir {
         Assert.assertEquals("test", packageFromSource.getName().asString());
 
         PackageViewDescriptor packageFromBinary = LoadDescriptorUtil.loadTestPackageAndBindingContextFromJavaRoot(
-                tmpdir, getTestRootDisposable(), getJdkKind(), configurationKind, true
+                tmpdir, getTestRootDisposable(), getJdkKind(), configurationKind, true, lazyMemberDeserialization
         ).first;
 
         for (DeclarationDescriptor descriptor : DescriptorUtils.getAllDescriptors(packageFromBinary.getMemberScope())) {
@@ -29,6 +29,7 @@ import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment;
 import org.jetbrains.kotlin.codegen.GenerationUtils;
 import org.jetbrains.kotlin.codegen.forTestCompile.ForTestCompileRuntime;
 import org.jetbrains.kotlin.codegen.state.GenerationState;
+import org.jetbrains.kotlin.config.CommonConfigurationKeys;
 import org.jetbrains.kotlin.config.CompilerConfiguration;
 import org.jetbrains.kotlin.descriptors.ModuleDescriptor;
 import org.jetbrains.kotlin.descriptors.PackageViewDescriptor;
@@ -72,6 +73,18 @@ public class LoadDescriptorUtil {
             @NotNull TestJdkKind testJdkKind,
             @NotNull ConfigurationKind configurationKind,
             boolean isBinaryRoot
+    ) {
+        return loadTestPackageAndBindingContextFromJavaRoot(javaRoot, disposable, testJdkKind, configurationKind, isBinaryRoot, false);
+    }
+
+    @NotNull
+    public static Pair<PackageViewDescriptor, BindingContext> loadTestPackageAndBindingContextFromJavaRoot(
+            @NotNull File javaRoot,
+            @NotNull Disposable disposable,
+            @NotNull TestJdkKind testJdkKind,
+            @NotNull ConfigurationKind configurationKind,
+            boolean isBinaryRoot,
+            boolean lazyMemberDeserialization
     ) {
         List<File> javaBinaryRoots = new ArrayList<File>();
         javaBinaryRoots.add(KotlinTestUtils.getAnnotationsJar());
@@ -86,6 +99,9 @@ public class LoadDescriptorUtil {
         }
         CompilerConfiguration configuration =
                 KotlinTestUtils.newConfiguration(configurationKind, testJdkKind, javaBinaryRoots, javaSourceRoots);
+        if (lazyMemberDeserialization) {
+            configuration.put(CommonConfigurationKeys.LAZY_MEMBER_DESERIALIZATION, true);
+        }
         KotlinCoreEnvironment environment =
                 KotlinCoreEnvironment.createForTests(disposable, configuration, EnvironmentConfigFiles.JVM_CONFIG_FILES);
 
@@ -575,4 +575,76 @@ public class BlackBoxWithJava8CodegenTestGenerated extends AbstractBlackBoxCodeg
             doTest(fileName);
         }
     }
+
+    @TestMetadata("compiler/testData/codegen/java8/box/samConversionsViaIndy")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class SamConversionsViaIndy extends AbstractBlackBoxCodegenTest {
+        public void testAllFilesPresentInSamConversionsViaIndy() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadata(this.getClass(), new File("compiler/testData/codegen/java8/box/samConversionsViaIndy"), Pattern.compile("^(.+)\\.kt$"), TargetBackend.ANY, true);
+        }
+
+        @TestMetadata("generic.kt")
+        public void testGeneric() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/java8/box/samConversionsViaIndy/generic.kt");
+            doTest(fileName);
+        }
+
+        @TestMetadata("inlineFunction.kt")
+        public void testInlineFunction() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/java8/box/samConversionsViaIndy/inlineFunction.kt");
+            doTest(fileName);
+        }
+
+        @TestMetadata("overridingMethodNeedsBridge.kt")
+        public void testOverridingMethodNeedsBridge() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/java8/box/samConversionsViaIndy/overridingMethodNeedsBridge.kt");
+            doTest(fileName);
+        }
+
+        @TestMetadata("primitive.kt")
+        public void testPrimitive() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/java8/box/samConversionsViaIndy/primitive.kt");
+            doTest(fileName);
+        }
+
+        @TestMetadata("simple.kt")
+        public void testSimple() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/java8/box/samConversionsViaIndy/simple.kt");
+            doTest(fileName);
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/java8/box/stringConcatViaIndy")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class StringConcatViaIndy extends AbstractBlackBoxCodegenTest {
+        public void testAllFilesPresentInStringConcatViaIndy() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadata(this.getClass(), new File("compiler/testData/codegen/java8/box/stringConcatViaIndy"), Pattern.compile("^(.+)\\.kt$"), TargetBackend.ANY, true);
+        }
+
+        @TestMetadata("longRecipe.kt")
+        public void testLongRecipe() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/java8/box/stringConcatViaIndy/longRecipe.kt");
+            doTest(fileName);
+        }
+
+        @TestMetadata("manyArguments.kt")
+        public void testManyArguments() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/java8/box/stringConcatViaIndy/manyArguments.kt");
+            doTest(fileName);
+        }
+
+        @TestMetadata("simple.kt")
+        public void testSimple() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/java8/box/stringConcatViaIndy/simple.kt");
+            doTest(fileName);
+        }
+
+        @TestMetadata("tagCharacters.kt")
+        public void testTagCharacters() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/java8/box/stringConcatViaIndy/tagCharacters.kt");
+            doTest(fileName);
+        }
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2010-2017 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.cli
+
+import org.jetbrains.kotlin.cli.common.ExitCode
+import org.jetbrains.kotlin.cli.js.K2JSCompiler
+import org.jetbrains.kotlin.cli.jvm.compiler.EnvironmentConfigFiles
+import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment
+import org.jetbrains.kotlin.config.CommonConfigurationKeys
+import org.jetbrains.kotlin.config.CompilerConfiguration
+import org.jetbrains.kotlin.config.addKotlinSourceRoot
+import org.jetbrains.kotlin.js.config.EcmaVersion
+import org.jetbrains.kotlin.js.config.JSConfigurationKeys
+import org.jetbrains.kotlin.js.config.LibrarySourcesConfig
+import org.jetbrains.kotlin.js.facade.K2JSTranslator
+import org.jetbrains.kotlin.js.facade.MainCallParameters
+import org.jetbrains.kotlin.js.facade.TranslationResult
+import org.jetbrains.kotlin.test.TestCaseWithTmpdir
+import java.io.File
+
+// Checks that the code and the source map which kotlinc-js streams to disk are the same as the ones built in memory by getOutputFiles
+class StreamedJsOutputTest : TestCaseWithTmpdir() {
+    fun testSourceMapWithPrefixAndPostfix() {
+        // Large enough for both the code and the mappings to be flushed several times while they are written
+        val source = File(tmpdir, "source.kt")
+        source.writeText(buildString {
+            appendln("package foo")
+            for (i in 0 until 3000) {
+                appendln()
+                appendln("fun f$i(x: Int): Int {")
+                appendln("    val y = x + $i")
+                appendln("    return if (y > 0) y else -y")
+                appendln("}")
+            }
+            appendln()
+            appendln("fun main(args: Array<String>) {")
+            appendln("    f0(1)")
+            appendln("}")
+        })
+
+        val prefix = File(tmpdir, "prefix.js")
+        prefix.writeText("/*\nSOME PREFIX\n*/\n")
+        val postfix = File(tmpdir, "postfix.js")
+        postfix.writeText("/*\nSOME POSTFIX\n*/\n")
+
+        val outputFile = File(tmpdir, "out/out.js")
+        val (output, exitCode) = AbstractCliTest.executeCompilerGrabOutput(K2JSCompiler(), listOf(
+                source.path,
+                "-no-stdlib",
+                "-source-map",
+                "-output-prefix", prefix.path,
+                "-output-postfix", postfix.path,
+                "-output", outputFile.path
+        ))
+        assertEquals(output, ExitCode.OK, exitCode)
+
+        val outputFiles = translateInMemory(source).getOutputFiles(outputFile, prefix, postfix).asList()
+
+        val code = outputFiles.single { it.relativePath == "out.js" }.asText()
+        assertEquals(code, outputFile.readText())
+
+        val sourceMap = outputFiles.single { it.relativePath == "out.js.map" }.asText()
+        assertEquals(parseSourceMap(sourceMap), parseSourceMap(File(tmpdir, "out/out.js.map").readText()))
+    }
+
+    private fun translateInMemory(source: File): TranslationResult.Success {
+        val configuration = CompilerConfiguration().apply {
+            put(CommonConfigurationKeys.MODULE_NAME, "out")
+            put(JSConfigurationKeys.LIBRARIES, emptyList())
+            put(JSConfigurationKeys.SOURCE_MAP, true)
+            put(JSConfigurationKeys.TARGET, EcmaVersion.defaultVersion())
+            addKotlinSourceRoot(source.path)
+        }
+        val environment = KotlinCoreEnvironment.createForTests(testRootDisposable, configuration, EnvironmentConfigFiles.JS_CONFIG_FILES)
+        val config = LibrarySourcesConfig(environment.project, environment.configuration)
+
+        val result = K2JSTranslator(config).translate(environment.getSourceFiles(), MainCallParameters.mainWithoutArguments())
+        return result as? TranslationResult.Success ?: throw AssertionError("Translation failed: ${result.diagnostics.all()}")
+    }
+
+    // The streamed source map has its keys in a different order, so only the values of the keys are compared
+    private fun parseSourceMap(text: String): Map<String, String> {
+        val body = text.removePrefix("{").removeSuffix("}")
+        val entries = SOURCE_MAP_ENTRY.findAll(body).toList()
+        assertEquals("Unexpected source map format: $text", body, entries.joinToString(",") { it.value })
+        return entries.associate { it.groupValues[1] to it.groupValues[2] }
+    }
+
+    companion object {
+        private val SOURCE_MAP_ENTRY = Regex("\"(\\w+)\":(\"[^\"]*\"|\\[[^\\]]*]|\\d+)")
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2010-2017 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.cli.jvm.compiler
+
+import org.jetbrains.kotlin.diagnostics.Severity
+import org.jetbrains.kotlin.psi.KtFile
+import org.jetbrains.kotlin.test.ConfigurationKind
+import org.jetbrains.kotlin.test.KotlinTestUtils
+import org.jetbrains.kotlin.test.KotlinTestWithEnvironment
+
+class IncrementalAnalysisSessionTest : KotlinTestWithEnvironment() {
+    override fun createEnvironment(): KotlinCoreEnvironment = createEnvironmentWithMockJdk(ConfigurationKind.JDK_ONLY)
+
+    fun testUnaffectedFileIsNotAnalyzedAgain() {
+        val session = IncrementalAnalysisSession(environment, listOf(
+                file("a.kt", "fun a() = 1"),
+                file("b.kt", "fun b() { unresolved() }")
+        ))
+        assertEquals(listOf("b.kt: UNRESOLVED_REFERENCE"), session.analyze().errors())
+
+        val result = session.reanalyze(listOf(file("a.kt", "fun a() = 2")))
+        assertEquals(listOf("a.kt"), result.analyzedFiles.map { it.name })
+        assertEquals(listOf("b.kt: UNRESOLVED_REFERENCE"), result.errors())
+    }
+
+    fun testChangedSupertypeAffectsUsagesOfSubclasses() {
+        val session = IncrementalAnalysisSession(environment, listOf(
+                file("base.kt", "open class Base { fun foo(): Int = 1 }"),
+                file("mid.kt", "open class Mid : Base()"),
+                file("leaf.kt", "class Leaf : Mid()"),
+                file("use.kt", "fun use(leaf: Leaf): Int = leaf.foo()"),
+                file("other.kt", "fun other() = 42")
+        ))
+        assertEquals(emptyList<String>(), session.analyze().errors())
+
+        val result = session.reanalyze(listOf(file("base.kt", "open class Base { fun bar(): Int = 1 }")))
+        assertEquals(listOf("base.kt", "leaf.kt", "mid.kt", "use.kt"), result.analyzedFiles.map { it.name }.sorted())
+        assertEquals(listOf("use.kt: UNRESOLVED_REFERENCE"), result.errors())
+    }
+
+    fun testNewDeclarationResolvesReference() {
+        val session = IncrementalAnalysisSession(environment, listOf(
+                file("a.kt", "fun a() = 1"),
+                file("b.kt", "fun b() = c()")
+        ))
+        assertEquals(listOf("b.kt: UNRESOLVED_REFERENCE"), session.analyze().errors())
+
+        val result = session.reanalyze(listOf(file("a.kt", "fun a() = 1\nfun c() = 2")))
+        assertEquals(emptyList<String>(), result.errors())
+    }
+
+    fun testRemovedDeclaration() {
+        val c = file("c.kt", "fun c() = 2")
+        val session = IncrementalAnalysisSession(environment, listOf(
+                file("a.kt", "fun a() = 1"),
+                file("b.kt", "fun b() = c()"),
+                c
+        ))
+        assertEquals(emptyList<String>(), session.analyze().errors())
+
+        val result = session.reanalyze(emptyList(), listOf(c))
+        assertEquals(listOf("b.kt"), result.analyzedFiles.map { it.name })
+        assertEquals(listOf("b.kt: UNRESOLVED_REFERENCE"), result.errors())
+    }
+
+    fun testRedeclarationInUnchangedFile() {
+        val session = IncrementalAnalysisSession(environment, listOf(
+                file("a.kt", "val x = 1"),
+                file("b.kt", "val y = 2")
+        ))
+        assertEquals(emptyList<String>(), session.analyze().errors())
+
+        val result = session.reanalyze(listOf(file("b.kt", "val x = 2")))
+        assertEquals(listOf("a.kt: REDECLARATION", "b.kt: REDECLARATION"), result.errors())
+
+        // The redeclaration in the unchanged file is gone as well
+        assertEquals(emptyList<String>(), session.reanalyze(listOf(file("b.kt", "val y = 2"))).errors())
+    }
+
+    private fun file(name: String, text: String): KtFile = KotlinTestUtils.createFile(name, text, project)
+
+    private fun IncrementalAnalysisSession.Result.errors(): List<String> =
+            diagnostics.filter { it.severity == Severity.ERROR }.map { "${it.psiFile.name}: ${it.factory.name}" }.sorted()
+}
@@ -210,6 +210,39 @@ public class BytecodeListingTestGenerated extends AbstractBytecodeListingTest {
         }
     }
 
+    @TestMetadata("compiler/testData/codegen/bytecodeListing/delegatedPropertyMetadata")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class DelegatedPropertyMetadata extends AbstractBytecodeListingTest {
+        public void testAllFilesPresentInDelegatedPropertyMetadata() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadata(this.getClass(), new File("compiler/testData/codegen/bytecodeListing/delegatedPropertyMetadata"), Pattern.compile("^(.+)\\.kt$"), TargetBackend.ANY, true);
+        }
+
+        @TestMetadata("inlineDelegateUnused.kt")
+        public void testInlineDelegateUnused() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/bytecodeListing/delegatedPropertyMetadata/inlineDelegateUnused.kt");
+            doTest(fileName);
+        }
+
+        @TestMetadata("inlineDelegateUsed.kt")
+        public void testInlineDelegateUsed() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/bytecodeListing/delegatedPropertyMetadata/inlineDelegateUsed.kt");
+            doTest(fileName);
+        }
+
+        @TestMetadata("lazy.kt")
+        public void testLazy() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/bytecodeListing/delegatedPropertyMetadata/lazy.kt");
+            doTest(fileName);
+        }
+
+        @TestMetadata("nonInlineDelegate.kt")
+        public void testNonInlineDelegate() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/bytecodeListing/delegatedPropertyMetadata/nonInlineDelegate.kt");
+            doTest(fileName);
+        }
+    }
+
     @TestMetadata("compiler/testData/codegen/bytecodeListing/specialBridges")
     @TestDataPath("$PROJECT_ROOT")
     @RunWith(JUnit3RunnerWithInners.class)
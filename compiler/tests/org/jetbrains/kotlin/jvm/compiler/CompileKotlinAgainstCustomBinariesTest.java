@@ -18,7 +18,10 @@ package org.jetbrains.kotlin.jvm.compiler;
 
 import com.google.common.collect.Iterables;
 import com.intellij.openapi.util.Ref;
+import com.intellij.core.JavaCoreApplicationEnvironment;
 import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.impl.ZipHandler;
+import com.intellij.openapi.vfs.impl.jar.CoreJarFileSystem;
 import com.intellij.util.ArrayUtil;
 import com.intellij.util.Processor;
 import kotlin.Pair;
@@ -67,6 +70,7 @@ import java.util.jar.JarFile;
 import java.util.regex.Pattern;
 import java.util.zip.ZipOutputStream;
 
+import static org.jetbrains.kotlin.cli.common.PropertiesKt.KOTLIN_COMPILER_ENVIRONMENT_KEEPALIVE_PROPERTY;
 import static org.jetbrains.kotlin.config.KotlinCompilerVersion.TEST_IS_PRE_RELEASE_SYSTEM_PROPERTY;
 import static org.jetbrains.kotlin.resolve.DescriptorUtils.isObject;
 import static org.jetbrains.kotlin.test.util.RecursiveDescriptorComparator.validateAndCompareDescriptorWithFile;
@@ -521,6 +525,39 @@ public class CompileKotlinAgainstCustomBinariesTest extends TestCaseWithTmpdir {
         doTestWithTxt(usage, library2);
     }
 
+    public void testRebuiltLibraryInSameProcess() throws Exception {
+        // Keep the application alive between compilations, as the daemon does
+        String oldKeepAlive = System.setProperty(KOTLIN_COMPILER_ENVIRONMENT_KEEPALIVE_PROPERTY, "true");
+        try {
+            File library = new File(tmpdir, "library.jar");
+            Assert.assertEquals(ExitCode.OK, compileKotlin("library-1", library).getSecond());
+
+            Pair<String, ExitCode> outputBefore = compileKotlin("source.kt", tmpdir, library);
+            KotlinTestUtils.assertEqualsToFile(new File(getTestDataDirectory(), "output.txt"), normalizeOutput(outputBefore));
+
+            Assert.assertEquals(ExitCode.OK, compileKotlin("library-2", library).getSecond());
+
+            // Clear the VFS caches of the jar like the daemon does after each session. Headers of classes from the jar
+            // must not be reused from the previous compilation either
+            ZipHandler.clearFileAccessorCache();
+            JavaCoreApplicationEnvironment applicationEnvironment = KotlinCoreEnvironment.Companion.getApplicationEnvironment();
+            assert applicationEnvironment != null : "Application environment should be kept alive";
+            ((CoreJarFileSystem) applicationEnvironment.getJarFileSystem()).clearHandlersCache();
+
+            Pair<String, ExitCode> outputAfter = compileKotlin("source.kt", tmpdir, library);
+            Assert.assertEquals(normalizeOutput(new Pair<String, ExitCode>("", ExitCode.OK)), normalizeOutput(outputAfter));
+        }
+        finally {
+            if (oldKeepAlive == null) {
+                System.clearProperty(KOTLIN_COMPILER_ENVIRONMENT_KEEPALIVE_PROPERTY);
+            }
+            else {
+                System.setProperty(KOTLIN_COMPILER_ENVIRONMENT_KEEPALIVE_PROPERTY, oldKeepAlive);
+            }
+            KotlinCoreEnvironment.Companion.disposeApplicationEnvironment();
+        }
+    }
+
     public void testProhibitNestedClassesByDollarName() throws Exception {
         File library = compileLibrary("library");
 
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2010-2017 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.load.kotlin
+
+import org.jetbrains.kotlin.codegen.forTestCompile.ForTestCompileRuntime
+import org.jetbrains.org.objectweb.asm.AnnotationVisitor
+import org.jetbrains.org.objectweb.asm.ClassReader
+import org.jetbrains.org.objectweb.asm.ClassVisitor
+import org.jetbrains.org.objectweb.asm.Opcodes
+import org.junit.Assert.assertEquals
+import org.junit.Test
+import java.io.File
+import java.io.FileInputStream
+import java.util.Arrays
+import java.util.zip.ZipInputStream
+
+// Checks that ClassFileHeaderScanner reports exactly what ClassReader reports for the parts of a class file it reads
+class ClassFileHeaderScannerTest {
+    @Test fun testRuntime() {
+        doTest(ForTestCompileRuntime.runtimeJarForTests())
+    }
+
+    @Test fun testReflect() {
+        doTest(ForTestCompileRuntime.reflectJarForTests())
+    }
+
+    private fun doTest(file: File) {
+        val zip = ZipInputStream(FileInputStream(file))
+        zip.use {
+            generateSequence { zip.nextEntry }.forEach {
+                if (it.name.endsWith(".class")) {
+                    val bytes = zip.readBytes()
+                    assertEquals(it.name, readWithClassReader(bytes), readWithScanner(bytes))
+                }
+            }
+        }
+    }
+
+    private fun readWithClassReader(bytes: ByteArray): String {
+        val log = StringBuilder()
+        val reader = ClassReader(bytes)
+        log.append("class ${reader.className}\n")
+        reader.accept(object : ClassVisitor(Opcodes.ASM5) {
+            override fun visit(version: Int, access: Int, name: String, signature: String?, superName: String?, interfaces: Array<out String>?) {
+                log.append("version $version\n")
+            }
+
+            override fun visitInnerClass(name: String, outerName: String?, innerName: String?, access: Int) {
+                log.append("inner $name $outerName $innerName $access\n")
+            }
+        }, ClassReader.SKIP_CODE or ClassReader.SKIP_DEBUG or ClassReader.SKIP_FRAMES)
+        reader.accept(LoggingClassVisitor(log), ClassReader.SKIP_CODE or ClassReader.SKIP_DEBUG or ClassReader.SKIP_FRAMES)
+        return log.toString()
+    }
+
+    private fun readWithScanner(bytes: ByteArray): String {
+        val log = StringBuilder()
+        val scanner = ClassFileHeaderScanner(bytes)
+        log.append("class ${scanner.className}\n")
+        log.append("version ${scanner.classVersion}\n")
+        scanner.acceptInnerClasses(object : ClassVisitor(Opcodes.ASM5) {
+            override fun visitInnerClass(name: String, outerName: String?, innerName: String?, access: Int) {
+                log.append("inner $name $outerName $innerName $access\n")
+            }
+        })
+        scanner.acceptClassAnnotations(LoggingClassVisitor(log))
+        return log.toString()
+    }
+
+    private class LoggingClassVisitor(private val log: StringBuilder) : ClassVisitor(Opcodes.ASM5) {
+        override fun visitAnnotation(desc: String, visible: Boolean): AnnotationVisitor {
+            log.append("annotation $desc $visible\n")
+            return LoggingAnnotationVisitor(log, "  ")
+        }
+    }
+
+    private class LoggingAnnotationVisitor(private val log: StringBuilder, private val indent: String) : AnnotationVisitor(Opcodes.ASM5) {
+        override fun visit(name: String?, value: Any) {
+            val text = when (value) {
+                is ByteArray -> Arrays.toString(value)
+                is CharArray -> Arrays.toString(value)
+                is ShortArray -> Arrays.toString(value)
+                is BooleanArray -> Arrays.toString(value)
+                is IntArray -> Arrays.toString(value)
+                is LongArray -> Arrays.toString(value)
+                is FloatArray -> Arrays.toString(value)
+                is DoubleArray -> Arrays.toString(value)
+                else -> value.toString()
+            }
+            log.append("$indent$name = ${value.javaClass.simpleName} $text\n")
+        }
+
+        override fun visitEnum(name: String?, desc: String, value: String) {
+            log.append("$indent$name = enum $desc.$value\n")
+        }
+
+        override fun visitAnnotation(name: String?, desc: String): AnnotationVisitor {
+            log.append("$indent$name = annotation $desc\n")
+            return LoggingAnnotationVisitor(log, "$indent  ")
+        }
+
+        override fun visitArray(name: String?): AnnotationVisitor {
+            log.append("$indent$name = array\n")
+            return LoggingAnnotationVisitor(log, "$indent  ")
+        }
+
+        override fun visitEnd() {
+            log.append("${indent}end\n")
+        }
+    }
+}
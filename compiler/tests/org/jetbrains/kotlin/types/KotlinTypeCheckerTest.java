@@ -300,6 +300,36 @@ public class KotlinTypeCheckerTest extends KotlinTestWithEnvironment {
 //        assertSubtype("java.lang.Integer", "java.lang.Comparable<java.lang.Integer>?");
     }
 
+    public void testSubstitutedSupertypes() throws Exception {
+        // Supertypes of a class are found once for its default type and then substituted, so check several arguments in a row
+        assertSubtype("SubSub_ListT<Int>", "Base_T<List<Int>>");
+        assertSubtype("SubSub_ListT<String>", "Base_T<List<String>>");
+        assertNotSubtype("SubSub_ListT<String>", "Base_T<List<Int>>");
+        assertSubtype("SubSub_ListT<Int>", "Base_T<out List<Number>>");
+        assertNotSubtype("SubSub_ListT<Int>", "Base_T<List<Number>>");
+        assertSubtype("SubSub_ListT<Int>", "Sub_ListT<Int>");
+        assertNotSubtype("SubSub_ListT<Int>", "Sub_ListT<Number>");
+
+        // Two paths to the same supertype
+        assertSubtype("DDerived2_T<Int>", "Base_T<Int>");
+        assertNotSubtype("DDerived2_T<Int>", "Base_T<String>");
+    }
+
+    public void testCapturedSupertypes() throws Exception {
+        assertSubtype("SubSub_ListT<out Int>", "Base_T<out List<Int>>");
+        assertNotSubtype("SubSub_ListT<out Int>", "Base_T<List<Int>>");
+        assertNotSubtype("SubSub_ListT<out Any>", "Base_T<out List<Int>>");
+        assertSubtype("SubSub_ListT<in Int>", "Base_T<out List<Any?>>");
+        assertNotSubtype("SubSub_ListT<in Int>", "Base_T<out List<Int>>");
+        assertSubtype("SubSub_ListT<*>", "Base_T<out List<Any?>>");
+        assertNotSubtype("SubSub_ListT<*>", "Base_T<List<Any?>>");
+
+        assertSubtype("DDerived_T<out Int>", "Base_T<out Number>");
+        assertNotSubtype("DDerived_T<out Number>", "Base_T<out Int>");
+        assertSubtype("DDerived_T<in Number>", "Base_T<in Int>");
+        assertNotSubtype("DDerived_T<in Int>", "Base_T<in Number>");
+    }
+
     public void testNullable() throws Exception {
         assertSubtype("Any?", "Any?");
         assertSubtype("Any", "Any?");
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2010-2017 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.util
+
+import org.jetbrains.kotlin.utils.ConcurrentWeakIdentityMap
+import org.junit.Assert.*
+import org.junit.Test
+import java.lang.ref.WeakReference
+
+class ConcurrentWeakIdentityMapTest {
+    // Keys which are all equal to each other, so that only the identity tells them apart
+    private class Key {
+        override fun equals(other: Any?) = other is Key
+        override fun hashCode() = 0
+    }
+
+    @Test
+    fun testIdentity() {
+        val first = Key()
+        val second = Key()
+        val map = ConcurrentWeakIdentityMap<Key, String>()
+
+        map.put(first, "first")
+        assertEquals("first", map[first])
+        assertNull(map[second])
+
+        map.put(second, "second")
+        assertEquals("first", map[first])
+        assertEquals("second", map[second])
+
+        map.put(first, "new")
+        assertEquals("new", map[first])
+        assertEquals(2, map.size)
+    }
+
+    @Test
+    fun testPutIfAbsent() {
+        val key = Key()
+        val map = ConcurrentWeakIdentityMap<Key, String>()
+
+        assertEquals("first", map.putIfAbsent(key, "first"))
+        assertEquals("first", map.putIfAbsent(key, "second"))
+        assertEquals("first", map[key])
+        assertEquals("other", map.putIfAbsent(Key(), "other"))
+        assertEquals(2, map.size)
+    }
+
+    @Test
+    fun testCollectedKeysArePurgedOnGet() {
+        val map = ConcurrentWeakIdentityMap<Key, String>()
+        val alive = Key()
+        map.put(alive, "alive")
+        val collected = putCollectableKey(map)
+        assertEquals(2, map.size)
+
+        awaitCollection(collected)
+
+        // The reference of the collected key is enqueued asynchronously after it has been cleared
+        awaitSize(map, 1) { assertEquals("alive", map[alive]) }
+    }
+
+    @Test
+    fun testCollectedKeysArePurgedOnPut() {
+        val map = ConcurrentWeakIdentityMap<Key, String>()
+        val collected = putCollectableKey(map)
+
+        awaitCollection(collected)
+
+        val key = Key()
+        awaitSize(map, 1) { map.put(key, "new") }
+        assertEquals("new", map[key])
+    }
+
+    // The key is created in a separate function, so that no local variable of the test keeps it alive
+    private fun putCollectableKey(map: ConcurrentWeakIdentityMap<Key, String>): WeakReference<Key> {
+        val key = Key()
+        map.put(key, "collected")
+        return WeakReference(key)
+    }
+
+    private fun awaitCollection(reference: WeakReference<*>) {
+        for (i in 1..100) {
+            System.gc()
+            if (reference.get() == null) return
+            Thread.sleep(10)
+        }
+        fail("The key has not been collected")
+    }
+
+    // Accesses the map until the entries of all collected keys are removed
+    private fun awaitSize(map: ConcurrentWeakIdentityMap<Key, String>, expected: Int, access: () -> Unit) {
+        for (i in 1..100) {
+            access()
+            if (map.size == expected) return
+            Thread.sleep(10)
+        }
+        fail("Collected keys have not been purged, size is ${map.size}")
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2010-2017 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.util
+
+import org.jetbrains.kotlin.utils.PersistentHashTrieMap
+import org.junit.Assert.*
+import org.junit.Test
+import java.util.*
+
+class PersistentHashTrieMapTest {
+    // Keys with the given hash code, which are equal only if their names are equal
+    private data class Key(val name: String, val hash: Int) {
+        override fun hashCode() = hash
+    }
+
+    @Test
+    fun testCollisions() {
+        val keys = (1..5).map { Key("k$it", 42) }
+        var map = PersistentHashTrieMap.empty<Key, String>()
+        for (key in keys) {
+            map = map.plus(key, key.name)
+        }
+        assertEquals(5, map.size)
+        for (key in keys) {
+            assertEquals(key.name, map[key])
+        }
+        assertNull(map[Key("other", 42)])
+
+        map = map.plus(keys[2], "new")
+        assertEquals(5, map.size)
+        assertEquals("new", map[keys[2]])
+
+        for (key in keys) {
+            map = map.minus(key)
+            assertNull(map[key])
+            assertContentEquals(keys.filter { map.containsKey(it) }.associate { it to map[it]!! }, map)
+        }
+        assertTrue(map.isEmpty())
+    }
+
+    @Test
+    fun testCollisionWithDifferentHashes() {
+        // The collision node has to be moved one level down when a key with the same lower bits but a different hash is added
+        val colliding1 = Key("a", 1)
+        val colliding2 = Key("b", 1)
+        val other = Key("c", 1 + (1 shl 5))
+
+        val map = PersistentHashTrieMap.empty<Key, Int>().plus(colliding1, 1).plus(colliding2, 2).plus(other, 3)
+        assertContentEquals(mapOf(colliding1 to 1, colliding2 to 2, other to 3), map)
+        assertContentEquals(mapOf(colliding1 to 1, other to 3), map.minus(colliding2))
+        assertContentEquals(mapOf(colliding2 to 2), map.minus(colliding1).minus(other))
+    }
+
+    @Test
+    fun testRemovalCollapsesNodes() {
+        // Hash codes with the same lower bits make a chain of nested nodes
+        val keys = (0..6).map { Key("k$it", it shl 5) }
+        var map = PersistentHashTrieMap.empty<Key, Int>()
+        for ((index, key) in keys.withIndex()) {
+            map = map.plus(key, index)
+        }
+
+        val expected = keys.withIndex().associateTo(LinkedHashMap()) { it.value to it.index }
+        for (key in keys.reversed()) {
+            map = map.minus(key)
+            expected.remove(key)
+            assertContentEquals(expected, map)
+
+            // The map after removal must be the same as the map built from scratch with the remaining keys
+            val rebuilt = expected.entries.fold(PersistentHashTrieMap.empty<Key, Int>()) { result, entry ->
+                result.plus(entry.key, entry.value)
+            }
+            assertEquals(rebuilt, map)
+            assertEquals(rebuilt.toString(), map.toString())
+        }
+
+        assertSame(PersistentHashTrieMap.empty<Key, Int>(), map)
+    }
+
+    @Test
+    fun testRemovalOfMissingKeyReturnsSameMap() {
+        val map = PersistentHashTrieMap.empty<Key, Int>().plus(Key("a", 1), 1).plus(Key("b", 33), 2)
+        assertSame(map, map.minus(Key("c", 1)))
+        assertSame(map, map.minus(Key("d", 2)))
+        assertSame(map, map.plus(Key("a", 1), 1))
+    }
+
+    @Test
+    fun testEqualsAndHashCodeAgainstHashMap() {
+        val random = Random(239)
+        var map = PersistentHashTrieMap.empty<Key, Int>()
+        val expected = HashMap<Key, Int>()
+        for (i in 1..2000) {
+            // Few distinct hash codes, so that there are both collisions and deep nodes
+            val key = Key("k${random.nextInt(300)}", random.nextInt(100) shl random.nextInt(20))
+            if (random.nextInt(3) == 0) {
+                map = map.minus(key)
+                expected.remove(key)
+            }
+            else {
+                map = map.plus(key, i)
+                expected[key] = i
+            }
+
+            if (i % 100 == 0) {
+                assertContentEquals(expected, map)
+            }
+        }
+        assertContentEquals(expected, map)
+
+        val shuffledEntries = ArrayList(expected.entries)
+        Collections.shuffle(shuffledEntries, random)
+        val copy = shuffledEntries.fold(PersistentHashTrieMap.empty<Key, Int>()) { result, entry ->
+            result.plus(entry.key, entry.value)
+        }
+        assertEquals(map, copy)
+        assertEquals(map.hashCode(), copy.hashCode())
+
+        val someKey = expected.keys.first()
+        assertFalse(map == copy.plus(someKey, -1))
+        assertFalse(map == copy.minus(someKey))
+        assertFalse(map == copy.plus(Key("absent", 0), 0))
+    }
+
+    private fun <K : Any, V : Any> assertContentEquals(expected: Map<K, V>, actual: PersistentHashTrieMap<K, V>) {
+        val actualEntries = HashMap<K, V>()
+        actual.forEach { key, value -> assertNull("Duplicate key $key", actualEntries.put(key, value)) }
+
+        assertEquals(expected, actualEntries)
+        assertEquals(expected.size, actual.size)
+        assertEquals(expected.hashCode(), actual.hashCode())
+        for ((key, value) in expected) {
+            assertEquals(value, actual[key])
+        }
+    }
+}
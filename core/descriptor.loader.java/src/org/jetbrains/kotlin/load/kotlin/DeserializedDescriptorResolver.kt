@@ -59,10 +59,22 @@ class DeserializedDescriptorResolver {
     fun createKotlinPackagePartScope(descriptor: PackageFragmentDescriptor, kotlinClass: KotlinJvmBinaryClass): MemberScope? {
         val data = readData(kotlinClass, KOTLIN_FILE_FACADE_OR_MULTIFILE_CLASS_PART) ?: return null
         val strings = kotlinClass.classHeader.strings ?: return null
+        val source = JvmPackagePartSource(kotlinClass, kotlinClass.incompatibility, kotlinClass.isPreReleaseInvisible)
+        if (components.configuration.readMembersLazily) {
+            val (packageData, memberProtos) = parseProto(kotlinClass) {
+                JvmProtoBufUtil.readPackageDataWithLazyMembersFrom(data, strings)
+            } ?: return null
+            return DeserializedPackageMemberScope(
+                    descriptor, packageData.packageProto, packageData.nameResolver, source, components, memberProtos
+            ) {
+                // All classes are included into Java scope
+                emptyList()
+            }
+        }
+
         val (nameResolver, packageProto) = parseProto(kotlinClass) {
             JvmProtoBufUtil.readPackageDataFrom(data, strings)
         } ?: return null
-        val source = JvmPackagePartSource(kotlinClass, kotlinClass.incompatibility, kotlinClass.isPreReleaseInvisible)
         return DeserializedPackageMemberScope(descriptor, packageProto, nameResolver, source, components) {
             // All classes are included into Java scope
             emptyList()
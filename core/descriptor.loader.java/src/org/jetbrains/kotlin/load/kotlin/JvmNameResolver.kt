@@ -19,6 +19,7 @@ package org.jetbrains.kotlin.load.kotlin
 import org.jetbrains.kotlin.name.ClassId
 import org.jetbrains.kotlin.name.FqName
 import org.jetbrains.kotlin.name.Name
+import org.jetbrains.kotlin.serialization.deserialization.NameInterner
 import org.jetbrains.kotlin.serialization.deserialization.NameResolver
 import org.jetbrains.kotlin.serialization.jvm.JvmProtoBuf
 import org.jetbrains.kotlin.serialization.jvm.JvmProtoBuf.StringTableTypes.Record
@@ -43,6 +44,10 @@ class JvmNameResolver(
         this.trimToSize()
     }
 
+    // See NameResolverImpl
+    private val names = arrayOfNulls<Name>(records.size)
+    private val classIds = arrayOfNulls<ClassId>(records.size)
+
     override fun getString(index: Int): String {
         val record = records[index]
 
@@ -83,9 +88,13 @@ class JvmNameResolver(
         return string
     }
 
-    override fun getName(index: Int) = Name.guessByFirstCharacter(getString(index))
+    override fun getName(index: Int): Name =
+            names[index] ?: NameInterner.intern(Name.guessByFirstCharacter(getString(index))).apply { names[index] = this }
+
+    override fun getClassId(index: Int): ClassId =
+            classIds[index] ?: computeClassId(index).apply { classIds[index] = this }
 
-    override fun getClassId(index: Int): ClassId {
+    private fun computeClassId(index: Int): ClassId {
         val string = getString(index)
         val lastSlash = string.lastIndexOf('/')
         val packageName =
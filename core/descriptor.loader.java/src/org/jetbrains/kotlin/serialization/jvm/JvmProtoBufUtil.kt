@@ -22,6 +22,8 @@ import org.jetbrains.kotlin.serialization.ClassData
 import org.jetbrains.kotlin.serialization.PackageData
 import org.jetbrains.kotlin.serialization.ProtoBuf
 import org.jetbrains.kotlin.serialization.deserialization.*
+import org.jetbrains.kotlin.serialization.deserialization.descriptors.LazyMemberProtos
+import org.jetbrains.kotlin.serialization.deserialization.descriptors.splitLazyMembers
 import org.jetbrains.kotlin.utils.singletonOrEmptyList
 import java.io.ByteArrayInputStream
 
@@ -52,6 +54,23 @@ object JvmProtoBufUtil {
         return PackageData(nameResolver, packageProto)
     }
 
+    /**
+     * Reads package data, leaving functions and properties to be parsed only when members with the corresponding name are requested.
+     * Functions and properties of the returned [PackageData.packageProto] are always empty.
+     */
+    @JvmStatic fun readPackageDataWithLazyMembersFrom(data: Array<String>, strings: Array<String>): Pair<PackageData, LazyMemberProtos> {
+        val bytes = BitEncoding.decodeBytes(data)
+        val input = ByteArrayInputStream(bytes)
+        val nameResolver = JvmNameResolver(JvmProtoBuf.StringTableTypes.parseDelimitedFrom(input, EXTENSION_REGISTRY), strings)
+        val (packageBytes, memberProtos) = splitLazyMembers(
+                bytes, bytes.size - input.available(),
+                ProtoBuf.Package.FUNCTION_FIELD_NUMBER, ProtoBuf.Package.PROPERTY_FIELD_NUMBER,
+                nameResolver, EXTENSION_REGISTRY
+        )
+        val packageProto = ProtoBuf.Package.parseFrom(packageBytes, EXTENSION_REGISTRY)
+        return PackageData(nameResolver, packageProto) to memberProtos
+    }
+
     // returns JVM signature in the format: "equals(Ljava/lang/Object;)Z"
     fun getJvmMethodSignature(
             proto: ProtoBuf.Function,
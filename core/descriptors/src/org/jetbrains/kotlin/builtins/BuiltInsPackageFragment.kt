@@ -30,22 +30,14 @@ class BuiltInsPackageFragment(
         fqName: FqName,
         storageManager: StorageManager,
         module: ModuleDescriptor,
-        inputStream: InputStream
+        private val proto: BuiltInsProtoBuf.BuiltIns
 ) : DeserializedPackageFragment(fqName, storageManager, module) {
-    private val proto = inputStream.use { stream ->
-        val version = BuiltInsBinaryVersion.readFrom(stream)
-
-        if (!version.isCompatible()) {
-            // TODO: report a proper diagnostic
-            throw UnsupportedOperationException(
-                    "Kotlin built-in definition format version is not supported: " +
-                    "expected ${BuiltInsBinaryVersion.INSTANCE}, actual $version. " +
-                    "Please update Kotlin"
-            )
-        }
-
-        BuiltInsProtoBuf.BuiltIns.parseFrom(stream, BuiltInSerializerProtocol.extensionRegistry)
-    }
+    constructor(
+            fqName: FqName,
+            storageManager: StorageManager,
+            module: ModuleDescriptor,
+            inputStream: InputStream
+    ) : this(fqName, storageManager, module, readProto(inputStream))
 
     private val nameResolver = NameResolverImpl(proto.strings, proto.qualifiedNames)
 
@@ -58,4 +50,22 @@ class BuiltInsPackageFragment(
                         !classId.isNestedClass && classId !in ClassDeserializer.BLACK_LIST
                     }.map { it.shortClassName } }
             )
+
+    companion object {
+        @JvmStatic
+        fun readProto(inputStream: InputStream): BuiltInsProtoBuf.BuiltIns = inputStream.use { stream ->
+            val version = BuiltInsBinaryVersion.readFrom(stream)
+
+            if (!version.isCompatible()) {
+                // TODO: report a proper diagnostic
+                throw UnsupportedOperationException(
+                        "Kotlin built-in definition format version is not supported: " +
+                        "expected ${BuiltInsBinaryVersion.INSTANCE}, actual $version. " +
+                        "Please update Kotlin"
+                )
+            }
+
+            BuiltInsProtoBuf.BuiltIns.parseFrom(stream, BuiltInSerializerProtocol.extensionRegistry)
+        }
+    }
 }
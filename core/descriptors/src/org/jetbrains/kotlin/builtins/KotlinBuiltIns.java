@@ -36,6 +36,7 @@ import org.jetbrains.kotlin.name.Name;
 import org.jetbrains.kotlin.resolve.DescriptorUtils;
 import org.jetbrains.kotlin.resolve.scopes.ChainedMemberScope;
 import org.jetbrains.kotlin.resolve.scopes.MemberScope;
+import org.jetbrains.kotlin.serialization.builtins.BuiltInsProtoBuf;
 import org.jetbrains.kotlin.serialization.deserialization.AdditionalClassPartsProvider;
 import org.jetbrains.kotlin.serialization.deserialization.ClassDescriptorFactory;
 import org.jetbrains.kotlin.serialization.deserialization.PlatformDependentDeclarationFilter;
@@ -47,6 +48,8 @@ import org.jetbrains.kotlin.types.checker.KotlinTypeChecker;
 
 import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static kotlin.collections.SetsKt.setOf;
 import static org.jetbrains.kotlin.builtins.PrimitiveType.*;
@@ -69,6 +72,9 @@ public abstract class KotlinBuiltIns {
             BUILT_INS_PACKAGE_FQ_NAME.child(Name.identifier("internal"))
     );
 
+    private static final ConcurrentMap<FqName, BuiltInsProtoBuf.BuiltIns> BUILT_INS_PROTOS =
+            new ConcurrentHashMap<FqName, BuiltInsProtoBuf.BuiltIns>();
+
     private ModuleDescriptorImpl builtInsModule;
 
     private final NotNullLazyValue<Primitives> primitives;
@@ -135,16 +141,15 @@ public abstract class KotlinBuiltIns {
 
     protected void createBuiltInsModule() {
         builtInsModule = new ModuleDescriptorImpl(BUILTINS_MODULE_NAME, storageManager, this, null);
-        PackageFragmentProvider packageFragmentProvider = BuiltInsPackageFragmentProviderKt.createBuiltInPackageFragmentProvider(
+        PackageFragmentProvider packageFragmentProvider = BuiltInsPackageFragmentProviderKt.createBuiltInPackageFragmentProviderFromProtos(
                 storageManager, builtInsModule, BUILT_INS_PACKAGE_FQ_NAMES,
                 getClassDescriptorFactories(),
                 getPlatformDependentDeclarationFilter(),
                 getAdditionalClassPartsProvider(),
-                new Function1<String, InputStream>() {
+                new Function1<FqName, BuiltInsProtoBuf.BuiltIns>() {
                     @Override
-                    public InputStream invoke(String path) {
-                        ClassLoader classLoader = KotlinBuiltIns.class.getClassLoader();
-                        return classLoader != null ? classLoader.getResourceAsStream(path) : ClassLoader.getSystemResourceAsStream(path);
+                    public BuiltInsProtoBuf.BuiltIns invoke(FqName fqName) {
+                        return loadBuiltInsProto(fqName);
                     }
                 }
         );
@@ -153,6 +158,28 @@ public abstract class KotlinBuiltIns {
         builtInsModule.setDependencies(builtInsModule);
     }
 
+    /**
+     * Built-ins metadata in the resources next to this class never changes, so it's parsed once per class loader and shared between
+     * all built-ins instances (e.g. between compiler environments in the daemon or modules of kotlin-reflect).
+     * Only the parsed protos are shared: descriptors are still created lazily by each instance in its own storage manager
+     */
+    @NotNull
+    private static BuiltInsProtoBuf.BuiltIns loadBuiltInsProto(@NotNull FqName fqName) {
+        BuiltInsProtoBuf.BuiltIns proto = BUILT_INS_PROTOS.get(fqName);
+        if (proto != null) return proto;
+
+        String path = BuiltInSerializerProtocol.INSTANCE.getBuiltInsFilePath(fqName);
+        ClassLoader classLoader = KotlinBuiltIns.class.getClassLoader();
+        InputStream stream = classLoader != null ? classLoader.getResourceAsStream(path) : ClassLoader.getSystemResourceAsStream(path);
+        if (stream == null) {
+            throw new IllegalStateException("Resource not found in classpath: " + path);
+        }
+
+        proto = BuiltInsPackageFragment.readProto(stream);
+        BuiltInsProtoBuf.BuiltIns previous = BUILT_INS_PROTOS.putIfAbsent(fqName, proto);
+        return previous != null ? previous : proto;
+    }
+
     public void setBuiltInsModule(@NotNull final ModuleDescriptorImpl module) {
         storageManager.compute(new Function0<Void>() {
             @Override
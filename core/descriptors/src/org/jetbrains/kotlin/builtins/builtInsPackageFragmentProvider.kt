@@ -21,6 +21,7 @@ import org.jetbrains.kotlin.descriptors.PackageFragmentProvider
 import org.jetbrains.kotlin.descriptors.PackageFragmentProviderImpl
 import org.jetbrains.kotlin.incremental.components.LookupTracker
 import org.jetbrains.kotlin.name.FqName
+import org.jetbrains.kotlin.serialization.builtins.BuiltInsProtoBuf
 import org.jetbrains.kotlin.serialization.deserialization.*
 import org.jetbrains.kotlin.storage.StorageManager
 import java.io.InputStream
@@ -33,11 +34,31 @@ fun createBuiltInPackageFragmentProvider(
         platformDependentDeclarationFilter: PlatformDependentDeclarationFilter,
         additionalClassPartsProvider: AdditionalClassPartsProvider = AdditionalClassPartsProvider.None,
         loadResource: (String) -> InputStream?
+): PackageFragmentProvider =
+        createBuiltInPackageFragmentProviderFromProtos(
+                storageManager, module, packageFqNames, classDescriptorFactories, platformDependentDeclarationFilter,
+                additionalClassPartsProvider
+        ) { fqName ->
+            val resourcePath = BuiltInSerializerProtocol.getBuiltInsFilePath(fqName)
+            val inputStream = loadResource(resourcePath) ?: throw IllegalStateException("Resource not found in classpath: $resourcePath")
+            BuiltInsPackageFragment.readProto(inputStream)
+        }
+
+/**
+ * Same as [createBuiltInPackageFragmentProvider], but allows to reuse already parsed built-ins metadata: parsed protos are immutable
+ * and can be shared between any number of built-ins modules.
+ */
+fun createBuiltInPackageFragmentProviderFromProtos(
+        storageManager: StorageManager,
+        module: ModuleDescriptor,
+        packageFqNames: Set<FqName>,
+        classDescriptorFactories: Iterable<ClassDescriptorFactory>,
+        platformDependentDeclarationFilter: PlatformDependentDeclarationFilter,
+        additionalClassPartsProvider: AdditionalClassPartsProvider,
+        loadProto: (FqName) -> BuiltInsProtoBuf.BuiltIns
 ): PackageFragmentProvider {
     val packageFragments = packageFqNames.map { fqName ->
-        val resourcePath = BuiltInSerializerProtocol.getBuiltInsFilePath(fqName)
-        val inputStream = loadResource(resourcePath) ?: throw IllegalStateException("Resource not found in classpath: $resourcePath")
-        BuiltInsPackageFragment(fqName, storageManager, module, inputStream)
+        BuiltInsPackageFragment(fqName, storageManager, module, loadProto(fqName))
     }
     val provider = PackageFragmentProviderImpl(packageFragments)
 
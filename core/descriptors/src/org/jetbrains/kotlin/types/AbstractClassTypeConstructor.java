@@ -25,12 +25,15 @@ import org.jetbrains.kotlin.name.FqNameUnsafe;
 import org.jetbrains.kotlin.resolve.DescriptorUtils;
 import org.jetbrains.kotlin.resolve.descriptorUtil.DescriptorUtilsKt;
 import org.jetbrains.kotlin.storage.StorageManager;
+import org.jetbrains.kotlin.utils.ConcurrentWeakIdentityMap;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 public abstract class AbstractClassTypeConstructor extends AbstractTypeConstructor implements TypeConstructor {
     private int hashCode = 0;
+    private volatile ConcurrentWeakIdentityMap<TypeConstructor, List<SimpleType>> supertypesWithConstructor = null;
 
     public AbstractClassTypeConstructor(@NotNull StorageManager storageManager) {
         super(storageManager);
@@ -99,6 +102,28 @@ public abstract class AbstractClassTypeConstructor extends AbstractTypeConstruct
                !DescriptorUtils.isLocal(descriptor);
     }
 
+    /**
+     * Supertypes of the default type of this class which have the given type constructor, as found by NewKotlinTypeChecker.
+     * They only depend on the supertypes of this class, so the checker computes them once and substitutes the actual arguments.
+     *
+     * The given type constructors may come from other sessions (e.g. for classes of built-ins), so they are held weakly.
+     * The cached supertypes belong to the hierarchy of this class, so they don't keep a constructor of another session alive.
+     */
+    @NotNull
+    public ConcurrentWeakIdentityMap<TypeConstructor, List<SimpleType>> getSupertypesWithConstructorCache() {
+        ConcurrentWeakIdentityMap<TypeConstructor, List<SimpleType>> cache = supertypesWithConstructor;
+        if (cache == null) {
+            synchronized (this) {
+                cache = supertypesWithConstructor;
+                if (cache == null) {
+                    cache = new ConcurrentWeakIdentityMap<TypeConstructor, List<SimpleType>>();
+                    supertypesWithConstructor = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
     @NotNull
     @Override
     protected Collection<KotlinType> getAdditionalNeighboursInSupertypeGraph() {
@@ -78,6 +78,8 @@ object ErrorTypesAreEqualToAnything : KotlinTypeChecker {
 }
 
 object NewKotlinTypeChecker : KotlinTypeChecker {
+    private val SUPERTYPES_NOT_CACHEABLE: List<SimpleType> = SmartList()
+
     override fun isSubtypeOf(subtype: KotlinType, supertype: KotlinType): Boolean =
             TypeCheckerContext(true).run { isSubtypeOf(subtype.unwrap(), supertype.unwrap()) } // todo fix flag errorTypeEqualsToAnything
     override fun equalTypes(a: KotlinType, b: KotlinType): Boolean =
@@ -242,11 +244,52 @@ object NewKotlinTypeChecker : KotlinTypeChecker {
             baseType: SimpleType,
             constructor: TypeConstructor
     ): List<SimpleType> {
+        val classConstructor = baseType.constructor as? AbstractClassTypeConstructor
+        if (classConstructor == null || classConstructor == constructor) {
+            return walkSupertypesWithGivenTypeConstructor(baseType, constructor)
+        }
+
+        val cache = classConstructor.supertypesWithConstructorCache
+        val supertypesOfDefaultType = cache[constructor] ?:
+                                      cache.putIfAbsent(constructor, computeSupertypesOfDefaultType(classConstructor, constructor))
+        if (supertypesOfDefaultType === SUPERTYPES_NOT_CACHEABLE) {
+            return walkSupertypesWithGivenTypeConstructor(baseType, constructor)
+        }
+
+        val capturedBaseType = captureFromArguments(baseType, CaptureStatus.FOR_SUBTYPING)
+        if (capturedBaseType.arguments.isEmpty() || supertypesOfDefaultType.isEmpty()) return supertypesOfDefaultType
+
+        val substitutor = TypeConstructorSubstitution.create(capturedBaseType).buildSubstitutor()
+        val result = supertypesOfDefaultType.map { substitutor.safeSubstitute(it, Variance.INVARIANT).asSimpleType() }
+
+        // different paths in the default type may lead to the same supertype after substitution
+        return if (result.size < 2) result else result.distinct()
+    }
+
+    // Supertypes found via projected supertypes contain captured types, which are created anew for each check, so they are not cached
+    private fun TypeCheckerContext.computeSupertypesOfDefaultType(
+            classConstructor: AbstractClassTypeConstructor,
+            constructor: TypeConstructor
+    ): List<SimpleType> {
+        val defaultType = classConstructor.declarationDescriptor.defaultType
+        if (defaultType.constructor !== classConstructor) return SUPERTYPES_NOT_CACHEABLE
+
+        var capturedAnything = false
+        val result = walkSupertypesWithGivenTypeConstructor(defaultType, constructor) { capturedAnything = true }
+        return if (capturedAnything) SUPERTYPES_NOT_CACHEABLE else result
+    }
+
+    private fun TypeCheckerContext.walkSupertypesWithGivenTypeConstructor(
+            baseType: SimpleType,
+            constructor: TypeConstructor,
+            onCapture: () -> Unit = {}
+    ): List<SimpleType> {
 
         var result: MutableList<SimpleType>? = null
 
         anySupertype(baseType, { false }) {
             val current = captureFromArguments(it, CaptureStatus.FOR_SUBTYPING)
+            if (current !== it) onCapture()
 
             if (current.constructor == constructor) {
                 if (result == null) {
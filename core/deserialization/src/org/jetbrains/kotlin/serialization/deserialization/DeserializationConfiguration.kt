@@ -23,5 +23,12 @@ interface DeserializationConfiguration {
     val typeAliasesAllowed: Boolean
         get() = true
 
+    /**
+     * Whether functions and properties of package parts should be parsed from metadata only when members with the corresponding
+     * name are requested, see [org.jetbrains.kotlin.serialization.deserialization.descriptors.LazyMemberProtos]
+     */
+    val readMembersLazily: Boolean
+        get() = false
+
     object Default : DeserializationConfiguration
 }
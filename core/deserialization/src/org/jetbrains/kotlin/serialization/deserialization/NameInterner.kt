@@ -0,0 +1,43 @@
+/*
+ * Copyright 2010-2017 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.serialization.deserialization
+
+import org.jetbrains.kotlin.name.Name
+import java.lang.ref.WeakReference
+import java.util.*
+
+/**
+ * Shares [Name] instances between all name resolvers, so that equal names read from different classes and libraries
+ * do not retain separate copies. Names are held weakly and are collected once no descriptor references them.
+ *
+ * Names are distributed over several independently locked maps by their hash code, so that threads deserializing
+ * different classes at the same time rarely wait for each other.
+ */
+object NameInterner {
+    private const val STRIPE_COUNT = 16
+
+    private val stripes = Array(STRIPE_COUNT) { WeakHashMap<Name, WeakReference<Name>>() }
+
+    @JvmStatic
+    fun intern(name: Name): Name {
+        val hash = name.hashCode()
+        val names = stripes[(hash xor (hash ushr 16)) and (STRIPE_COUNT - 1)]
+        return synchronized(names) {
+            names[name]?.get() ?: name.apply { names[this] = WeakReference(this) }
+        }
+    }
+}
@@ -27,12 +27,20 @@ class NameResolverImpl(
         private val strings: ProtoBuf.StringTable,
         private val qualifiedNames: ProtoBuf.QualifiedNameTable
 ) : NameResolver {
+    // The same indices are resolved many times while a class is being deserialized, so the results are memoized.
+    // Races are benign here: the values are immutable, and any two computed values for the same index are equal
+    private val names = arrayOfNulls<Name>(strings.stringCount)
+    private val classIds = arrayOfNulls<ClassId>(qualifiedNames.qualifiedNameCount)
 
     override fun getString(index: Int): String = strings.getString(index)
 
-    override fun getName(index: Int) = Name.guessByFirstCharacter(strings.getString(index))
+    override fun getName(index: Int): Name =
+            names[index] ?: NameInterner.intern(Name.guessByFirstCharacter(strings.getString(index))).apply { names[index] = this }
 
-    override fun getClassId(index: Int): ClassId {
+    override fun getClassId(index: Int): ClassId =
+            classIds[index] ?: computeClassId(index).apply { classIds[index] = this }
+
+    private fun computeClassId(index: Int): ClassId {
         val (packageFqNameSegments, relativeClassNameSegments, isLocal) = traverseIds(index)
         return ClassId(FqName.fromSegments(packageFqNameSegments), FqName.fromSegments(relativeClassNameSegments), isLocal)
     }
@@ -44,24 +52,28 @@ class NameResolverImpl(
 
     private fun traverseIds(startingIndex: Int): Triple<List<String>, List<String>, Boolean> {
         var index = startingIndex
-        val packageNameSegments = LinkedList<String>()
-        val relativeClassNameSegments = LinkedList<String>()
+        val packageNameSegments = ArrayList<String>(4)
+        val relativeClassNameSegments = ArrayList<String>(1)
         var local = false
 
         while (index != -1) {
             val proto = qualifiedNames.getQualifiedName(index)
             val shortName = strings.getString(proto.shortName)
             when (proto.kind!!) {
-                QualifiedName.Kind.CLASS -> relativeClassNameSegments.addFirst(shortName)
-                QualifiedName.Kind.PACKAGE -> packageNameSegments.addFirst(shortName)
+                QualifiedName.Kind.CLASS -> relativeClassNameSegments.add(shortName)
+                QualifiedName.Kind.PACKAGE -> packageNameSegments.add(shortName)
                 QualifiedName.Kind.LOCAL -> {
-                    relativeClassNameSegments.addFirst(shortName)
+                    relativeClassNameSegments.add(shortName)
                     local = true
                 }
             }
 
             index = proto.parentQualifiedName
         }
+
+        // Segments were collected from the innermost to the outermost one
+        packageNameSegments.reverse()
+        relativeClassNameSegments.reverse()
         return Triple(packageNameSegments, relativeClassNameSegments, local)
     }
 }
@@ -32,22 +32,40 @@ import org.jetbrains.kotlin.utils.addIfNotNull
 import org.jetbrains.kotlin.utils.compactIfPossible
 import java.util.*
 
+/**
+ * @param lazyMemberProtos if not null, functions and properties are taken from it instead of [functionList] and [propertyList]
+ */
 abstract class DeserializedMemberScope protected constructor(
         protected val c: DeserializationContext,
         functionList: Collection<ProtoBuf.Function>,
         propertyList: Collection<ProtoBuf.Property>,
         typeAliasList: Collection<ProtoBuf.TypeAlias>,
-        classNames: () -> Collection<Name>
+        classNames: () -> Collection<Name>,
+        lazyMemberProtos: MemberProtos? = null
 ) : MemberScopeImpl() {
 
-    private val functionProtos by
-            c.storageManager.createLazyValue {
-                functionList.groupByName { it.name }
-            }
-    private val propertyProtos by
-            c.storageManager.createLazyValue {
-                propertyList.groupByName { it.name }
-            }
+    private val memberProtos: MemberProtos = lazyMemberProtos ?: ParsedMemberProtos(functionList, propertyList)
+
+    private inner class ParsedMemberProtos(
+            functionList: Collection<ProtoBuf.Function>,
+            propertyList: Collection<ProtoBuf.Property>
+    ) : MemberProtos {
+        private val functionProtos by
+                c.storageManager.createLazyValue {
+                    functionList.groupByName { it.name }
+                }
+        private val propertyProtos by
+                c.storageManager.createLazyValue {
+                    propertyList.groupByName { it.name }
+                }
+
+        override val functionNames: Set<Name> get() = functionProtos.keys
+        override val variableNames: Set<Name> get() = propertyProtos.keys
+
+        override fun getFunctions(name: Name) = functionProtos[name].orEmpty()
+        override fun getProperties(name: Name) = propertyProtos[name].orEmpty()
+    }
+
     private val typeAliasProtos by
             c.storageManager.createLazyValue {
                 if (c.components.configuration.typeAliasesAllowed)
@@ -63,11 +81,11 @@ abstract class DeserializedMemberScope protected constructor(
             c.storageManager.createMemoizedFunctionWithNullableValues<Name, TypeAliasDescriptor> { createTypeAlias(it) }
 
     private val functionNamesLazy by c.storageManager.createLazyValue {
-        functionProtos.keys + getNonDeclaredFunctionNames()
+        memberProtos.functionNames + getNonDeclaredFunctionNames()
     }
 
     private val variableNamesLazy by c.storageManager.createLazyValue {
-        propertyProtos.keys + getNonDeclaredVariableNames()
+        memberProtos.variableNames + getNonDeclaredVariableNames()
     }
 
     private val typeAliasNames: Set<Name> get() = typeAliasProtos.keys
@@ -83,20 +101,16 @@ abstract class DeserializedMemberScope protected constructor(
 
     private fun computeFunctions(name: Name) =
             computeDescriptors(
-                    name,
-                    functionProtos,
+                    memberProtos.getFunctions(name),
                     { c.memberDeserializer.loadFunction(it) },
                     { computeNonDeclaredFunctions(name, it)}
             )
 
     inline private fun <M : MessageLite, D : DeclarationDescriptor> computeDescriptors(
-            name: Name,
-            protosByName: Map<Name, Collection<M>>,
+            protos: Collection<M>,
             factory: (M) -> D,
             computeNonDeclared: (MutableCollection<D>) -> Unit
     ): Collection<D> {
-        val protos = protosByName[name].orEmpty()
-
         val descriptors = protos.mapTo(arrayListOf(), factory)
 
         computeNonDeclared(descriptors)
@@ -113,8 +127,7 @@ abstract class DeserializedMemberScope protected constructor(
 
     private fun computeProperties(name: Name) =
             computeDescriptors(
-                    name,
-                    propertyProtos,
+                    memberProtos.getProperties(name),
                     { c.memberDeserializer.loadProperty(it) },
                     { computeNonDeclaredProperties(name, it) }
             )
@@ -33,11 +33,12 @@ open class DeserializedPackageMemberScope(
         nameResolver: NameResolver,
         containerSource: DeserializedContainerSource?,
         components: DeserializationComponents,
+        lazyMemberProtos: LazyMemberProtos? = null,
         classNames: () -> Collection<Name>
 ) : DeserializedMemberScope(
         components.createContext(packageDescriptor, nameResolver, TypeTable(proto.typeTable),
                                  SinceKotlinInfoTable.create(proto.sinceKotlinInfoTable), containerSource),
-        proto.functionList, proto.propertyList, proto.typeAliasList, classNames
+        proto.functionList, proto.propertyList, proto.typeAliasList, classNames, lazyMemberProtos
 ) {
     private val packageFqName = packageDescriptor.fqName
 
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2010-2017 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.serialization.deserialization.descriptors
+
+import org.jetbrains.kotlin.name.Name
+import org.jetbrains.kotlin.protobuf.CodedInputStream
+import org.jetbrains.kotlin.protobuf.ExtensionRegistryLite
+import org.jetbrains.kotlin.protobuf.InvalidProtocolBufferException
+import org.jetbrains.kotlin.protobuf.WireFormat
+import org.jetbrains.kotlin.serialization.ProtoBuf
+import org.jetbrains.kotlin.serialization.deserialization.NameResolver
+import java.io.ByteArrayOutputStream
+import java.util.*
+
+/**
+ * Function and property protos of a class or a package, grouped by name
+ */
+interface MemberProtos {
+    val functionNames: Set<Name>
+    val variableNames: Set<Name>
+
+    fun getFunctions(name: Name): List<ProtoBuf.Function>
+    fun getProperties(name: Name): List<ProtoBuf.Property>
+}
+
+/**
+ * Members which are parsed from the original serialized bytes only when members with the corresponding name are requested.
+ * Only names of all members are read eagerly, see [splitLazyMembers].
+ */
+class LazyMemberProtos internal constructor(
+        private val bytes: ByteArray,
+        // Offsets and lengths of the serialized members with each name, in the order they were serialized in
+        private val functionRanges: Map<Name, IntArray>,
+        private val propertyRanges: Map<Name, IntArray>,
+        private val extensionRegistry: ExtensionRegistryLite
+) : MemberProtos {
+    override val functionNames: Set<Name> get() = functionRanges.keys
+    override val variableNames: Set<Name> get() = propertyRanges.keys
+
+    override fun getFunctions(name: Name): List<ProtoBuf.Function> =
+            parse(functionRanges[name]) { ProtoBuf.Function.parseFrom(it, extensionRegistry) }
+
+    override fun getProperties(name: Name): List<ProtoBuf.Property> =
+            parse(propertyRanges[name]) { ProtoBuf.Property.parseFrom(it, extensionRegistry) }
+
+    private inline fun <M> parse(ranges: IntArray?, parseFrom: (CodedInputStream) -> M): List<M> {
+        if (ranges == null) return emptyList()
+        return (0 until ranges.size step 2).map { i -> parseFrom(CodedInputStream.newInstance(bytes, ranges[i], ranges[i + 1])) }
+    }
+}
+
+/**
+ * Splits the message serialized in [bytes] from [offset] to the end into the bytes of the same message without the
+ * [functionField] and [propertyField] fields, which can be parsed as usual, and members from these fields, which are only
+ * parsed on demand.
+ */
+fun splitLazyMembers(
+        bytes: ByteArray,
+        offset: Int,
+        functionField: Int,
+        propertyField: Int,
+        nameResolver: NameResolver,
+        extensionRegistry: ExtensionRegistryLite
+): Pair<ByteArray, LazyMemberProtos> {
+    val input = CodedInputStream.newInstance(bytes, offset, bytes.size - offset)
+    val rest = ByteArrayOutputStream(bytes.size - offset)
+    val functions = LinkedHashMap<Name, MutableList<Int>>()
+    val properties = LinkedHashMap<Name, MutableList<Int>>()
+
+    while (true) {
+        val start = input.totalBytesRead
+        val tag = input.readTag()
+        if (tag == 0) break
+
+        val field = tag ushr TAG_TYPE_BITS
+        if ((field == functionField || field == propertyField) && (tag and TAG_TYPE_MASK) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+            val length = input.readRawVarint32()
+            val memberOffset = offset + input.totalBytesRead
+            input.skipRawBytes(length)
+
+            val name = nameResolver.getName(readMemberNameIndex(bytes, memberOffset, length))
+            val ranges = (if (field == functionField) functions else properties).getOrPut(name) { ArrayList(2) }
+            ranges.add(memberOffset)
+            ranges.add(length)
+        }
+        else {
+            input.skipField(tag)
+            rest.write(bytes, offset + start, input.totalBytesRead - start)
+        }
+    }
+
+    return rest.toByteArray() to LazyMemberProtos(
+            bytes, functions.mapValues { it.value.toIntArray() }, properties.mapValues { it.value.toIntArray() }, extensionRegistry
+    )
+}
+
+private const val TAG_TYPE_BITS = 3
+private const val TAG_TYPE_MASK = (1 shl TAG_TYPE_BITS) - 1
+
+// 'name' has the same number in both Function and Property messages
+private const val MEMBER_NAME_TAG = (2 shl TAG_TYPE_BITS) or WireFormat.WIRETYPE_VARINT
+
+private fun readMemberNameIndex(bytes: ByteArray, offset: Int, length: Int): Int {
+    val input = CodedInputStream.newInstance(bytes, offset, length)
+    while (true) {
+        val tag = input.readTag()
+        if (tag == 0) throw InvalidProtocolBufferException("Member without a name at offset $offset")
+        if (tag == MEMBER_NAME_TAG) return input.readInt32()
+        input.skipField(tag)
+    }
+}
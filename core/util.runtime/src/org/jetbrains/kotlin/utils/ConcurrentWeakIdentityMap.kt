@@ -0,0 +1,87 @@
+/*
+ * Copyright 2010-2017 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.utils
+
+import java.lang.ref.ReferenceQueue
+import java.lang.ref.WeakReference
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * A thread-safe map which compares keys by identity and holds them weakly.
+ * Entries of collected keys are removed on the next access to the map. Neither keys nor values can be null.
+ */
+class ConcurrentWeakIdentityMap<K : Any, V : Any> {
+    private val map = ConcurrentHashMap<Any, V>()
+    private val queue = ReferenceQueue<K>()
+
+    /**
+     * The number of entries, including the ones whose keys have been collected but not removed yet
+     */
+    val size: Int
+        get() = map.size
+
+    operator fun get(key: K): V? {
+        removeCollectedKeys()
+        return map[LookupKey(key)]
+    }
+
+    fun put(key: K, value: V) {
+        removeCollectedKeys()
+        map[WeakKey(key, queue)] = value
+    }
+
+    /**
+     * @return the value associated with [key] if there is one, or [value] after it has been associated with [key]
+     */
+    fun putIfAbsent(key: K, value: V): V {
+        removeCollectedKeys()
+        return map.putIfAbsent(WeakKey(key, queue), value) ?: value
+    }
+
+    private fun removeCollectedKeys() {
+        while (true) {
+            val reference = queue.poll() ?: return
+            map.remove(reference)
+        }
+    }
+
+    private class WeakKey<K>(key: K, queue: ReferenceQueue<K>) : WeakReference<K>(key, queue) {
+        private val hashCode = System.identityHashCode(key)
+
+        override fun hashCode() = hashCode
+
+        override fun equals(other: Any?): Boolean {
+            if (this === other) return true
+            val key = get() ?: return false
+            return when (other) {
+                is WeakKey<*> -> key === other.get()
+                is LookupKey -> key === other.key
+                else -> false
+            }
+        }
+    }
+
+    private class LookupKey(val key: Any) {
+        override fun hashCode() = System.identityHashCode(key)
+
+        override fun equals(other: Any?) = when (other) {
+            is LookupKey -> key === other.key
+            is WeakKey<*> -> key === other.get()
+            else -> false
+        }
+    }
+}
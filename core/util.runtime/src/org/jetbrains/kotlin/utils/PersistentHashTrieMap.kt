@@ -0,0 +1,255 @@
+/*
+ * Copyright 2010-2017 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.utils
+
+/**
+ * An immutable hash map implemented as a hash array mapped trie.
+ * [plus] and [minus] copy only the nodes on the path to the changed key, so the resulting map shares the rest of its structure
+ * with the original one. Neither keys nor values can be null.
+ */
+@Suppress("UNCHECKED_CAST")
+class PersistentHashTrieMap<K : Any, V : Any> private constructor(private val root: Node?, val size: Int) {
+    companion object {
+        private val EMPTY = PersistentHashTrieMap<Any, Any>(null, 0)
+
+        @JvmStatic
+        fun <K : Any, V : Any> empty(): PersistentHashTrieMap<K, V> = EMPTY as PersistentHashTrieMap<K, V>
+
+        private const val BITS = 5
+        private const val MASK = (1 shl BITS) - 1
+
+        private fun hashOf(key: Any): Int {
+            val hash = key.hashCode()
+            return hash xor (hash ushr 16)
+        }
+    }
+
+    fun isEmpty(): Boolean = size == 0
+
+    operator fun get(key: K): V? = root?.get(0, hashOf(key), key) as V?
+
+    fun containsKey(key: K): Boolean = get(key) != null
+
+    fun plus(key: K, value: V): PersistentHashTrieMap<K, V> {
+        val hash = hashOf(key)
+        if (root == null) return PersistentHashTrieMap(BitmapNode(1 shl (hash and MASK), arrayOf(key, value)), 1)
+
+        val newRoot = root.put(0, hash, key, value)
+        if (newRoot === root) return this
+        return PersistentHashTrieMap(newRoot, if (root.get(0, hash, key) == null) size + 1 else size)
+    }
+
+    fun minus(key: K): PersistentHashTrieMap<K, V> {
+        if (root == null) return this
+        val newRoot = root.remove(0, hashOf(key), key)
+        return when {
+            newRoot === root -> this
+            newRoot == null -> empty()
+            else -> PersistentHashTrieMap(newRoot, size - 1)
+        }
+    }
+
+    fun forEach(action: (K, V) -> Unit) {
+        root?.forEach(action as (Any, Any) -> Unit)
+    }
+
+    override fun equals(other: Any?): Boolean {
+        if (this === other) return true
+        if (other !is PersistentHashTrieMap<*, *> || size != other.size) return false
+
+        val otherMap = other as PersistentHashTrieMap<K, V>
+        var result = true
+        forEach { key, value ->
+            if (result && otherMap[key] != value) result = false
+        }
+        return result
+    }
+
+    // Same as hashCode of java.util.Map with the same entries
+    override fun hashCode(): Int {
+        var result = 0
+        forEach { key, value -> result += key.hashCode() xor value.hashCode() }
+        return result
+    }
+
+    override fun toString(): String {
+        val builder = StringBuilder("{")
+        forEach { key, value ->
+            if (builder.length > 1) builder.append(", ")
+            builder.append(key).append("=").append(value)
+        }
+        return builder.append("}").toString()
+    }
+
+    // Entries are stored in 'array' as key-value pairs. A pair with null key holds a child node in place of the value
+    private abstract class Node(val array: Array<Any?>) {
+        abstract fun get(shift: Int, hash: Int, key: Any): Any?
+        abstract fun put(shift: Int, hash: Int, key: Any, value: Any): Node
+        abstract fun remove(shift: Int, hash: Int, key: Any): Node?
+
+        // A node with a single key-value pair is inlined into its parent on removal, so that the trie stays as shallow as possible
+        val isSingleEntry: Boolean get() = array.size == 2 && array[0] != null
+
+        fun forEach(action: (Any, Any) -> Unit) {
+            for (i in 0..array.size - 1 step 2) {
+                val key = array[i]
+                if (key == null) (array[i + 1] as Node).forEach(action) else action(key, array[i + 1]!!)
+            }
+        }
+    }
+
+    private class BitmapNode(val bitmap: Int, array: Array<Any?>) : Node(array) {
+        override fun get(shift: Int, hash: Int, key: Any): Any? {
+            val bit = 1 shl ((hash ushr shift) and MASK)
+            if (bitmap and bit == 0) return null
+
+            val index = indexOf(bit)
+            val currentKey = array[index]
+            return when {
+                currentKey == null -> (array[index + 1] as Node).get(shift + BITS, hash, key)
+                currentKey == key -> array[index + 1]
+                else -> null
+            }
+        }
+
+        override fun put(shift: Int, hash: Int, key: Any, value: Any): Node {
+            val bit = 1 shl ((hash ushr shift) and MASK)
+            val index = indexOf(bit)
+            if (bitmap and bit == 0) {
+                val newArray = arrayOfNulls<Any>(array.size + 2)
+                System.arraycopy(array, 0, newArray, 0, index)
+                newArray[index] = key
+                newArray[index + 1] = value
+                System.arraycopy(array, index, newArray, index + 2, array.size - index)
+                return BitmapNode(bitmap or bit, newArray)
+            }
+
+            val currentKey = array[index]
+            val currentValue = array[index + 1]
+            return when {
+                currentKey == null -> {
+                    val child = currentValue as Node
+                    val newChild = child.put(shift + BITS, hash, key, value)
+                    if (newChild === child) this else replace(index, null, newChild)
+                }
+                currentKey == key -> {
+                    if (currentValue === value) this else replace(index, key, value)
+                }
+                else -> {
+                    replace(index, null, createNode(shift + BITS, hashOf(currentKey), currentKey, currentValue!!, hash, key, value))
+                }
+            }
+        }
+
+        override fun remove(shift: Int, hash: Int, key: Any): Node? {
+            val bit = 1 shl ((hash ushr shift) and MASK)
+            if (bitmap and bit == 0) return this
+
+            val index = indexOf(bit)
+            val currentKey = array[index]
+            if (currentKey == null) {
+                val child = array[index + 1] as Node
+                val newChild = child.remove(shift + BITS, hash, key)
+                return when {
+                    newChild === child -> this
+                    newChild == null -> removeAt(index, bit)
+                    newChild.isSingleEntry -> replace(index, newChild.array[0], newChild.array[1]!!)
+                    else -> replace(index, null, newChild)
+                }
+            }
+
+            return if (currentKey == key) removeAt(index, bit) else this
+        }
+
+        private fun indexOf(bit: Int) = 2 * Integer.bitCount(bitmap and (bit - 1))
+
+        private fun replace(index: Int, key: Any?, value: Any): Node {
+            val newArray = array.copyOf()
+            newArray[index] = key
+            newArray[index + 1] = value
+            return BitmapNode(bitmap, newArray)
+        }
+
+        private fun removeAt(index: Int, bit: Int): Node? {
+            if (array.size == 2) return null
+
+            val newArray = arrayOfNulls<Any>(array.size - 2)
+            System.arraycopy(array, 0, newArray, 0, index)
+            System.arraycopy(array, index + 2, newArray, index, array.size - index - 2)
+            return BitmapNode(bitmap xor bit, newArray)
+        }
+
+        private fun createNode(shift: Int, hash1: Int, key1: Any, value1: Any, hash2: Int, key2: Any, value2: Any): Node {
+            if (hash1 == hash2) return CollisionNode(hash1, arrayOf(key1, value1, key2, value2))
+
+            val index1 = (hash1 ushr shift) and MASK
+            val index2 = (hash2 ushr shift) and MASK
+            return when {
+                index1 == index2 -> BitmapNode(1 shl index1, arrayOf(null, createNode(shift + BITS, hash1, key1, value1, hash2, key2, value2)))
+                index1 < index2 -> BitmapNode((1 shl index1) or (1 shl index2), arrayOf(key1, value1, key2, value2))
+                else -> BitmapNode((1 shl index1) or (1 shl index2), arrayOf(key2, value2, key1, value1))
+            }
+        }
+    }
+
+    // Keys with the same full hash code
+    private class CollisionNode(val hash: Int, array: Array<Any?>) : Node(array) {
+        override fun get(shift: Int, hash: Int, key: Any): Any? {
+            if (hash != this.hash) return null
+            val index = indexOf(key)
+            return if (index < 0) null else array[index + 1]
+        }
+
+        override fun put(shift: Int, hash: Int, key: Any, value: Any): Node {
+            if (hash != this.hash) {
+                return BitmapNode(1 shl ((this.hash ushr shift) and MASK), arrayOf(null, this)).put(shift, hash, key, value)
+            }
+
+            val index = indexOf(key)
+            if (index >= 0) {
+                if (array[index + 1] === value) return this
+                val newArray = array.copyOf()
+                newArray[index + 1] = value
+                return CollisionNode(hash, newArray)
+            }
+
+            val newArray = array.copyOf(array.size + 2)
+            newArray[array.size] = key
+            newArray[array.size + 1] = value
+            return CollisionNode(hash, newArray)
+        }
+
+        override fun remove(shift: Int, hash: Int, key: Any): Node? {
+            if (hash != this.hash) return this
+            val index = indexOf(key)
+            if (index < 0) return this
+            if (array.size == 2) return null
+
+            val newArray = arrayOfNulls<Any>(array.size - 2)
+            System.arraycopy(array, 0, newArray, 0, index)
+            System.arraycopy(array, index + 2, newArray, index, array.size - index - 2)
+            return CollisionNode(hash, newArray)
+        }
+
+        private fun indexOf(key: Any): Int {
+            for (i in 0..array.size - 1 step 2) {
+                if (array[i] == key) return i
+            }
+            return -1
+        }
+    }
+}
@@ -308,6 +308,10 @@ fun main(args: Array<String>) {
             model("loadJava/compiledKotlin")
         }
 
+        testClass<AbstractLoadKotlinWithLazyMemberDeserializationTest> {
+            model("loadJava/compiledKotlin")
+        }
+
         testClass<AbstractJvmRuntimeDescriptorLoaderTest> {
             model("loadJava/compiledKotlin")
             model("loadJava/compiledJava", extension = "java", excludeDirs = listOf("sam", "kotlinSignature/propagation"))
@@ -321,6 +325,10 @@ fun main(args: Array<String>) {
             model("compileKotlinAgainstKotlin")
         }
 
+        testClass<AbstractCompileKotlinAgainstKotlinWithLazyMemberDeserializationTest> {
+            model("compileKotlinAgainstKotlin")
+        }
+
         testClass<AbstractDescriptorRendererTest> {
             model("renderer")
         }
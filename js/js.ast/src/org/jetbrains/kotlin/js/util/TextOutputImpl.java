@@ -4,15 +4,23 @@
 
 package org.jetbrains.kotlin.js.util;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Arrays;
 
 public class TextOutputImpl implements TextOutput {
     private final boolean compact;
     private int identLevel = 0;
     private final static int indentGranularity = 2;
+    private final static int FLUSH_THRESHOLD = 64 * 1024;
     private char[][] indents = new char[][] {new char[0]};
     private boolean justNewlined;
     private final StringBuilder out;
+    @Nullable
+    private final Writer writer;
     private int position = 0;
     private int line = 0;
     private int column = 0;
@@ -30,13 +38,37 @@ public class TextOutputImpl implements TextOutput {
     public TextOutputImpl(boolean compact) {
         this.compact = compact;
         out = new StringBuilder();
+        writer = null;
+    }
+
+    /**
+     * Creates output, which passes text to {@code writer} every time a line is completed and enough text is buffered,
+     * so the whole text is never kept in memory. Call {@link #flush()} after printing is finished.
+     */
+    public TextOutputImpl(@NotNull Writer writer) {
+        compact = false;
+        out = new StringBuilder(FLUSH_THRESHOLD);
+        this.writer = writer;
     }
 
     @Override
     public String toString() {
+        assert writer == null : "Text of output is already passed to writer";
         return out.toString();
     }
 
+    public void flush() {
+        if (writer == null) return;
+
+        try {
+            writer.append(out);
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        out.setLength(0);
+    }
+
     @Override
     public int getPosition() {
         return position;
@@ -81,6 +113,9 @@ public class TextOutputImpl implements TextOutput {
         if (outListener != null) {
             outListener.newLined();
         }
+        if (writer != null && out.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
     }
 
     @Override
@@ -38,4 +38,7 @@ public class JSConfigurationKeys {
 
     public static final CompilerConfigurationKey<ModuleKind> MODULE_KIND =
             CompilerConfigurationKey.create("module kind");
+
+    public static final CompilerConfigurationKey<Boolean> REMOVE_UNREACHABLE_DECLARATIONS =
+            CompilerConfigurationKey.create("remove unreachable declarations");
 }
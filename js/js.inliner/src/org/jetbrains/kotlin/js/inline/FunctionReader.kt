@@ -48,6 +48,7 @@ private val JS_IDENTIFIER_PART = "$JS_IDENTIFIER_START\\p{Pc}\\p{Mc}\\p{Mn}\\d"
 private val JS_IDENTIFIER="[$JS_IDENTIFIER_START][$JS_IDENTIFIER_PART]*"
 private val DEFINE_MODULE_PATTERN = ("($JS_IDENTIFIER)\\.defineModule\\(\\s*(['\"])([^'\"]+)\\2\\s*,\\s*(\\w+)\\s*\\)").toRegex().toPattern()
 private val DEFINE_MODULE_FIND_PATTERN = ".defineModule("
+private val DEFINE_INLINE_FUNCTION_FIND_PATTERN = ".${Namer.DEFINE_INLINE_FUNCTION}("
 
 class FunctionReader(private val context: TranslationContext) {
     /**
@@ -59,8 +60,16 @@ class FunctionReader(private val context: TranslationContext) {
      *
      * kotlinVariable: kotlin object variable.
      *     The default variable is Kotlin, but it can be renamed by minifier.
+     *
+     * inlineFunctionOffsets: offsets of inline function bodies in fileContent by their tags.
+     *     Computed in a single pass on first access and shared by all modules of the file.
      */
-    data class ModuleInfo(val fileContent: String, val moduleVariable: String, val kotlinVariable: String)
+    data class ModuleInfo(
+            val fileContent: String,
+            val moduleVariable: String,
+            val kotlinVariable: String,
+            val inlineFunctionOffsets: Lazy<Map<String, Int>>
+    )
 
     private val moduleNameToInfo = HashMultimap.create<String, ModuleInfo>()
 
@@ -69,6 +78,7 @@ class FunctionReader(private val context: TranslationContext) {
         val libs = config.libraries.map { File(it) }
 
         JsLibraryUtils.traverseJsLibraries(libs) { fileContent, _ ->
+            val inlineFunctionOffsets = lazy { indexInlineFunctions(fileContent) }
             var current = 0
 
             while (true) {
@@ -83,11 +93,55 @@ class FunctionReader(private val context: TranslationContext) {
                 val moduleName = preciseMatcher.group(3)
                 val moduleVariable = preciseMatcher.group(4)
                 val kotlinVariable = preciseMatcher.group(1)
-                moduleNameToInfo.put(moduleName, ModuleInfo(fileContent, moduleVariable, kotlinVariable))
+                moduleNameToInfo.put(moduleName, ModuleInfo(fileContent, moduleVariable, kotlinVariable, inlineFunctionOffsets))
             }
         }
     }
 
+    private fun indexInlineFunctions(text: String): Map<String, Int> {
+        val result = hashMapOf<String, Int>()
+        var current = 0
+
+        while (true) {
+            val index = text.indexOf(DEFINE_INLINE_FUNCTION_FIND_PATTERN, current)
+            if (index < 0) break
+
+            current = index + DEFINE_INLINE_FUNCTION_FIND_PATTERN.length
+            val tagStart = skipWhitespaces(text, current)
+            if (tagStart >= text.length) break
+
+            val quote = text[tagStart]
+            if (quote != '\'' && quote != '"') continue
+
+            val tagEnd = text.indexOf(quote, tagStart + 1)
+            if (tagEnd < 0) break
+
+            val tag = text.substring(tagStart + 1, tagEnd)
+            if (tag !in result) {
+                result[tag] = skipWhitespacesAndCommas(text, tagEnd + 1)
+            }
+            current = tagEnd + 1
+        }
+
+        return result
+    }
+
+    private fun skipWhitespaces(text: String, index: Int): Int {
+        var result = index
+        while (result < text.length && text[result].isWhitespace()) {
+            result++
+        }
+        return result
+    }
+
+    private fun skipWhitespacesAndCommas(text: String, index: Int): Int {
+        var result = index
+        while (result < text.length && text[result].isWhitespaceOrComma) {
+            result++
+        }
+        return result
+    }
+
     private fun rewindToIdentifierStart(text: String, index: Int): Int {
         var result = index
         while (result > 0 && Character.isJavaIdentifierPart(text[result - 1])) {
@@ -136,14 +190,7 @@ class FunctionReader(private val context: TranslationContext) {
     private fun readFunctionFromSource(descriptor: CallableDescriptor, info: ModuleInfo): JsFunction? {
         val source = info.fileContent
         val tag = Namer.getFunctionTag(descriptor)
-        val index = source.indexOf(tag)
-        if (index < 0) return null
-
-        // + 1 for closing quote
-        var offset = index + tag.length + 1
-        while (offset < source.length && source[offset].isWhitespaceOrComma) {
-            offset++
-        }
+        val offset = info.inlineFunctionOffsets.value[tag] ?: findFunctionOffsetByTag(source, tag) ?: return null
 
         val function = parseFunction(source, offset, ThrowExceptionOnErrorReporter, JsRootScope(JsProgram()))
         val moduleReference = context.getModuleExpressionFor(descriptor) ?: getRootPackage()
@@ -155,6 +202,15 @@ class FunctionReader(private val context: TranslationContext) {
         return function
     }
 
+    // Fallback for tags not found in the index, e.g. when a library was post-processed and the call was rewritten
+    private fun findFunctionOffsetByTag(source: String, tag: String): Int? {
+        val index = source.indexOf(tag)
+        if (index < 0) return null
+
+        // + 1 for closing quote
+        return skipWhitespacesAndCommas(source, index + tag.length + 1)
+    }
+
     private fun getRootPackage(): JsExpression {
         val rootName = context.program().rootScope.declareName(Namer.getRootPackageName())
         return JsAstUtils.pureFqn(rootName, null)
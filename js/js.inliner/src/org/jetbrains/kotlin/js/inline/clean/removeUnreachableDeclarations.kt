@@ -0,0 +1,126 @@
+/*
+ * Copyright 2010-2017 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.js.inline.clean
+
+import org.jetbrains.kotlin.js.backend.ast.*
+import org.jetbrains.kotlin.js.translate.expression.InlineMetadata
+import org.jetbrains.kotlin.js.translate.utils.JsAstUtils
+
+/**
+ * Removes top-level declarations of a module, which are not reachable from the rest of its top-level statements:
+ *  function foo() { ... }
+ *  function Foo() { ... }
+ *  Foo.prototype.bar = function() { ... };
+ *  Foo.$metadata$ = { ... };
+ *
+ * Exports, property initializers and main function call are not declarations, so they serve as roots.
+ * Declarations are matched by identifiers, so a declaration referenced from js() code is kept as well.
+ */
+fun removeUnreachableDeclarations(root: JsFunction) {
+    val statements = root.body.statements
+    val declaredNames = statements.mapNotNull { it.declaredName }.toSet()
+    if (declaredNames.isEmpty()) return
+
+    val owners = statements.map { it.declaredName ?: it.getOwnerName(declaredNames) }
+    val ownedStatements = mutableMapOf<String, MutableList<JsStatement>>()
+    val reachableNames = mutableSetOf<String>()
+    val queue = mutableListOf<String>()
+
+    fun processStatement(statement: JsStatement) {
+        for (name in collectReferencedIdentifiers(statement)) {
+            if (name in declaredNames && reachableNames.add(name)) {
+                queue += name
+            }
+        }
+    }
+
+    for ((statement, owner) in statements.zip(owners)) {
+        if (owner != null) {
+            ownedStatements.getOrPut(owner) { mutableListOf() } += statement
+        }
+        else {
+            processStatement(statement)
+        }
+    }
+
+    while (queue.isNotEmpty()) {
+        val name = queue.removeAt(queue.lastIndex)
+        ownedStatements[name]?.forEach { processStatement(it) }
+    }
+
+    val reachableStatements = statements.zip(owners).filter { it.second == null || it.second in reachableNames }
+    if (reachableStatements.size == statements.size) return
+
+    statements.clear()
+    reachableStatements.mapTo(statements) { it.first }
+}
+
+private val JsStatement.declaredName: String?
+    get() = when (this) {
+        is JsExpressionStatement -> (expression as? JsFunction)?.name?.ident
+        is JsVars -> {
+            val variable = vars.singleOrNull()
+            if (variable != null && variable.initExpression.isFunctionDefinition()) variable.name.ident else null
+        }
+        else -> null
+    }
+
+private fun JsExpression?.isFunctionDefinition() = this is JsFunction || InlineMetadata.decompose(this) != null
+
+/**
+ * Assignments to a declared function and its members, as well as properties defined on them, belong to the function:
+ *  Foo.prototype.bar = function() { ... };
+ *  Object.defineProperty(Foo.prototype, "baz", { ... });
+ */
+private fun JsStatement.getOwnerName(declaredNames: Set<String>): String? {
+    val expression = (this as? JsExpressionStatement)?.expression ?: return null
+
+    val target = when {
+        expression is JsInvocation && expression.isDefineProperty() -> expression.arguments.firstOrNull()
+        else -> JsAstUtils.decomposeAssignment(expression)?.first
+    }
+
+    val name = target?.rootIdentifier
+    return if (name != null && name in declaredNames) name else null
+}
+
+private fun JsInvocation.isDefineProperty(): Boolean {
+    val function = qualifier as? JsNameRef ?: return false
+    val receiver = function.qualifier as? JsNameRef ?: return false
+    return function.ident == "defineProperty" && receiver.ident == "Object" && receiver.qualifier == null
+}
+
+private val JsExpression.rootIdentifier: String?
+    get() {
+        if (this !is JsNameRef) return null
+        val qualifier = qualifier ?: return ident
+        return qualifier.rootIdentifier
+    }
+
+private fun collectReferencedIdentifiers(statement: JsStatement): Set<String> {
+    val result = mutableSetOf<String>()
+    statement.accept(object : RecursiveJsVisitor() {
+        override fun visitNameRef(nameRef: JsNameRef) {
+            // Top-level declarations are never accessed as members of something else
+            if (nameRef.qualifier == null) {
+                result += nameRef.ident
+            }
+            super.visitNameRef(nameRef)
+        }
+    })
+    return result
+}
@@ -268,6 +268,7 @@ abstract class BasicBoxTest(
 
         //configuration.put(JSConfigurationKeys.SOURCE_MAP, shouldGenerateSourceMap())
         configuration.put(JSConfigurationKeys.META_INFO, multiModule)
+        configuration.put(JSConfigurationKeys.REMOVE_UNREACHABLE_DECLARATIONS, module.removeUnreachableDeclarations)
 
         return LibrarySourcesConfig(project, configuration)
     }
@@ -298,6 +299,10 @@ abstract class BasicBoxTest(
                 currentModule.inliningDisabled = true
             }
 
+            if (REMOVE_UNREACHABLE_DECLARATIONS_PATTERN.matcher(text).find()) {
+                currentModule.removeUnreachableDeclarations = true
+            }
+
             val temporaryFile = File(tmpDir, "${currentModule.name}/$fileName")
             KotlinTestUtils.mkdirs(temporaryFile.parentFile)
             temporaryFile.writeText(text, Charsets.UTF_8)
@@ -333,6 +338,7 @@ abstract class BasicBoxTest(
         val dependencies = dependencies.toMutableList()
         var moduleKind = ModuleKind.PLAIN
         var inliningDisabled = false
+        var removeUnreachableDeclarations = false
         val files = mutableListOf<TestFile>()
         var languageVersion: LanguageVersion? = null
     }
@@ -347,6 +353,7 @@ abstract class BasicBoxTest(
         private val MODULE_KIND_PATTERN = Pattern.compile("^// *MODULE_KIND: *(.+)$", Pattern.MULTILINE)
         private val NO_MODULE_SYSTEM_PATTERN = Pattern.compile("^// *NO_JS_MODULE_SYSTEM", Pattern.MULTILINE)
         private val NO_INLINE_PATTERN = Pattern.compile("^// *NO_INLINE *$", Pattern.MULTILINE)
+        private val REMOVE_UNREACHABLE_DECLARATIONS_PATTERN = Pattern.compile("^// *REMOVE_UNREACHABLE_DECLARATIONS *$", Pattern.MULTILINE)
         private val SKIP_NODE_JS = Pattern.compile("^// *SKIP_NODE_JS *$", Pattern.MULTILINE)
 
         const val KOTLIN_TEST_INTERNAL = "\$kotlin_test_internal\$"
@@ -7526,4 +7526,37 @@ public class BoxJsTestGenerated extends AbstractBoxJsTest {
             doTest(fileName);
         }
     }
+
+    @TestMetadata("js/js.translator/testData/box/unreachableDeclarations")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class UnreachableDeclarations extends AbstractBoxJsTest {
+        public void testAllFilesPresentInUnreachableDeclarations() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadata(this.getClass(), new File("js/js.translator/testData/box/unreachableDeclarations"), Pattern.compile("^([^_](.+))\\.kt$"), TargetBackend.JS, true);
+        }
+
+        @TestMetadata("companion.kt")
+        public void testCompanion() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("js/js.translator/testData/box/unreachableDeclarations/companion.kt");
+            doTest(fileName);
+        }
+
+        @TestMetadata("jsCode.kt")
+        public void testJsCode() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("js/js.translator/testData/box/unreachableDeclarations/jsCode.kt");
+            doTest(fileName);
+        }
+
+        @TestMetadata("privateInline.kt")
+        public void testPrivateInline() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("js/js.translator/testData/box/unreachableDeclarations/privateInline.kt");
+            doTest(fileName);
+        }
+
+        @TestMetadata("unusedImport.kt")
+        public void testUnusedImport() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("js/js.translator/testData/box/unreachableDeclarations/unusedImport.kt");
+            doTest(fileName);
+        }
+    }
 }
@@ -207,6 +207,16 @@ public class DirectiveTestUtils {
         }
     };
 
+    private static final DirectiveHandler NOT_DECLARED = new DirectiveHandler("CHECK_NOT_DECLARED") {
+        @Override
+        void processEntry(@NotNull JsNode ast, @NotNull ArgumentsHelper arguments) throws Exception {
+            String functionName = arguments.getPositionalArgument(0);
+            for (JsName name : CollectUtilsKt.collectNamedFunctions(ast).keySet()) {
+                assertNotEquals("Function " + functionName + " is declared", functionName, name.getIdent());
+            }
+        }
+    };
+
     private static final DirectiveHandler ONLY_THIS_QUALIFIED_REFERENCES = new DirectiveHandler("ONLY_THIS_QUALIFIED_REFERENCES") {
         @Override
         void processEntry(@NotNull JsNode ast, @NotNull ArgumentsHelper arguments) throws Exception {
@@ -301,6 +311,7 @@ public class DirectiveTestUtils {
             COUNT_BREAKS,
             COUNT_NULLS,
             NOT_REFERENCED,
+            NOT_DECLARED,
             HAS_INLINE_METADATA,
             HAS_NO_INLINE_METADATA,
             HAS_NO_CAPTURED_VARS
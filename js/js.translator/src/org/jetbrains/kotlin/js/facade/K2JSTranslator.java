@@ -16,19 +16,21 @@
 
 package org.jetbrains.kotlin.js.facade;
 
-import org.jetbrains.kotlin.js.backend.ast.JsProgram;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.kotlin.descriptors.ModuleDescriptor;
 import org.jetbrains.kotlin.js.analyze.TopDownAnalyzerFacadeForJS;
 import org.jetbrains.kotlin.js.analyzer.JsAnalysisResult;
+import org.jetbrains.kotlin.js.backend.ast.JsProgram;
+import org.jetbrains.kotlin.js.config.JSConfigurationKeys;
 import org.jetbrains.kotlin.js.config.JsConfig;
 import org.jetbrains.kotlin.js.coroutine.CoroutineTransformer;
 import org.jetbrains.kotlin.js.facade.exceptions.TranslationException;
 import org.jetbrains.kotlin.js.inline.JsInliner;
-import org.jetbrains.kotlin.js.translate.context.StaticContext;
+import org.jetbrains.kotlin.js.inline.clean.RemoveUnreachableDeclarationsKt;
 import org.jetbrains.kotlin.js.inline.clean.RemoveUnusedImportsKt;
 import org.jetbrains.kotlin.js.inline.clean.ResolveTemporaryNamesKt;
+import org.jetbrains.kotlin.js.translate.context.StaticContext;
 import org.jetbrains.kotlin.js.translate.context.TranslationContext;
 import org.jetbrains.kotlin.js.translate.general.Translation;
 import org.jetbrains.kotlin.progress.ProgressIndicatorAndCompilationCanceledStatus;
@@ -96,6 +98,12 @@ public final class K2JSTranslator {
         expandIsCalls(program, context);
         ProgressIndicatorAndCompilationCanceledStatus.checkCanceled();
 
+        if (config.getConfiguration().getBoolean(JSConfigurationKeys.REMOVE_UNREACHABLE_DECLARATIONS)) {
+            RemoveUnreachableDeclarationsKt.removeUnreachableDeclarations(context.getRootFunction());
+            RemoveUnusedImportsKt.removeUnusedImports(program);
+            ProgressIndicatorAndCompilationCanceledStatus.checkCanceled();
+        }
+
         List<String> importedModules = new ArrayList<String>();
         for (StaticContext.ImportedModule module : context.getImportedModules()) {
             importedModules.add(module.getExternalName());
@@ -16,6 +16,7 @@
 
 package org.jetbrains.kotlin.js.facade
 
+import com.intellij.openapi.util.io.FileUtil
 import com.intellij.openapi.util.text.StringUtil
 import com.intellij.openapi.vfs.VfsUtilCore
 import org.jetbrains.kotlin.backend.common.output.*
@@ -52,17 +53,8 @@ abstract class TranslationResult protected constructor(val diagnostics: Diagnost
         @Suppress("unused") // Used in kotlin-web-demo in WebDemoTranslatorFacade
         fun getCode(): String = getCode(TextOutputImpl(), sourceMapBuilder = null)
 
-        fun getOutputFiles(outputFile: File, outputPrefixFile: File?, outputPostfixFile: File?): OutputFileCollection {
-            val output = TextOutputImpl()
-            val sourceMapBuilder =
-                    if (config.configuration.getBoolean(JSConfigurationKeys.SOURCE_MAP))
-                        SourceMap3Builder(outputFile, output, SourceMapBuilderConsumer())
-                    else null
-
-            val code = getCode(output, sourceMapBuilder)
-            val prefix = outputPrefixFile?.readText() ?: ""
-            val postfix = outputPostfixFile?.readText() ?: ""
-            val sourceFiles = files.map {
+        val sourceFiles: List<File> by lazy {
+            files.map {
                 val virtualFile = it.originalFile.virtualFile
 
                 when {
@@ -70,10 +62,73 @@ abstract class TranslationResult protected constructor(val diagnostics: Diagnost
                     else -> VfsUtilCore.virtualToIoFile(virtualFile)
                 }
             }
+        }
+
+        private val generateSourceMap: Boolean
+            get() = config.configuration.getBoolean(JSConfigurationKeys.SOURCE_MAP)
+
+        fun getOutputFiles(outputFile: File, outputPrefixFile: File?, outputPostfixFile: File?): OutputFileCollection {
+            val output = TextOutputImpl()
+            val sourceMapBuilder = if (generateSourceMap) SourceMap3Builder(outputFile, output, SourceMapBuilderConsumer()) else null
+
+            val code = getCode(output, sourceMapBuilder)
+            val prefix = outputPrefixFile?.readText() ?: ""
+            val postfix = outputPostfixFile?.readText() ?: ""
 
             val jsFile = SimpleOutputFile(sourceFiles, outputFile.name, prefix + code + postfix)
             val outputFiles = arrayListOf<OutputFile>(jsFile)
 
+            outputFiles.addAll(getMetadataFiles(outputFile).asList())
+
+            if (sourceMapBuilder != null) {
+                sourceMapBuilder.skipLinesAtBeginning(StringUtil.getLineBreakCount(prefix))
+                val sourceMapFile = SimpleOutputFile(sourceFiles, sourceMapBuilder.outFile.name, sourceMapBuilder.build())
+                outputFiles.add(sourceMapFile)
+            }
+
+            return SimpleOutputFileCollection(outputFiles)
+        }
+
+        /**
+         * Prints the code and its source map directly to [outputFile] and the corresponding .map file,
+         * so that neither of them is kept in memory as a whole. Returns the written files.
+         * Metadata files are not written, see [getMetadataFiles].
+         */
+        fun writeCode(outputFile: File, outputPrefixFile: File?, outputPostfixFile: File?): List<File> {
+            val writtenFiles = arrayListOf(outputFile)
+            val prefix = outputPrefixFile?.readText() ?: ""
+
+            FileUtil.createParentDirs(outputFile)
+            outputFile.bufferedWriter().use { codeWriter ->
+                codeWriter.write(prefix)
+
+                val output = TextOutputImpl(codeWriter)
+                if (generateSourceMap) {
+                    val sourceMapFile = SourceMap3Builder.getSourceMapFile(outputFile)
+                    sourceMapFile.bufferedWriter().use { sourceMapWriter ->
+                        val sourceMapBuilder = SourceMap3Builder(outputFile, output, SourceMapBuilderConsumer(), sourceMapWriter)
+                        sourceMapBuilder.skipLinesAtBeginning(StringUtil.getLineBreakCount(prefix))
+                        program.accept(JsSourceGenerationVisitor(output, sourceMapBuilder))
+                        sourceMapBuilder.finish()
+                    }
+                    writtenFiles.add(sourceMapFile)
+                }
+                else {
+                    program.accept(JsSourceGenerationVisitor(output, null))
+                }
+                output.flush()
+
+                if (outputPostfixFile != null) {
+                    codeWriter.write(outputPostfixFile.readText())
+                }
+            }
+
+            return writtenFiles
+        }
+
+        fun getMetadataFiles(outputFile: File): OutputFileCollection {
+            val outputFiles = arrayListOf<OutputFile>()
+
             if (config.configuration.getBoolean(JSConfigurationKeys.META_INFO)) {
                 val metaFileName = KotlinJavascriptMetadataUtils.replaceSuffix(outputFile.name)
                 val moduleDescription = JsModuleDescriptor(
@@ -93,12 +148,6 @@ abstract class TranslationResult protected constructor(val diagnostics: Diagnost
                 }
             }
 
-            if (sourceMapBuilder != null) {
-                sourceMapBuilder.skipLinesAtBeginning(StringUtil.getLineBreakCount(prefix))
-                val sourceMapFile = SimpleOutputFile(sourceFiles, sourceMapBuilder.outFile.name, sourceMapBuilder.build())
-                outputFiles.add(sourceMapFile)
-            }
-
             return SimpleOutputFileCollection(outputFiles)
         }
 
@@ -21,17 +21,27 @@ import org.jetbrains.kotlin.js.util.TextOutput;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.util.PairConsumer;
 import gnu.trove.TObjectIntHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
 public class SourceMap3Builder implements SourceMapBuilder {
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+
     private final StringBuilder out = new StringBuilder(8192);
     private final File generatedFile;
     private final TextOutput textOutput;
     private final PairConsumer<SourceMapBuilder, Object> sourceInfoConsumer;
 
+    @Nullable
+    private final Writer writer;
+    private boolean headerWritten;
+
     private String lastSource;
     private int lastSourceIndex;
 
@@ -51,18 +61,38 @@ public class SourceMap3Builder implements SourceMapBuilder {
     private int previousSourceColumn;
 
     public SourceMap3Builder(File generatedFile, TextOutput textOutput, PairConsumer<SourceMapBuilder, Object> sourceInfoConsumer) {
+        this(generatedFile, textOutput, sourceInfoConsumer, null);
+    }
+
+    /**
+     * Creates builder, which streams mappings to {@code writer} as lines of generated code are completed.
+     * Sources are known only in the end, so they go after mappings, see {@link #finish()}.
+     */
+    public SourceMap3Builder(
+            File generatedFile,
+            TextOutput textOutput,
+            PairConsumer<SourceMapBuilder, Object> sourceInfoConsumer,
+            @Nullable Writer writer
+    ) {
         this.generatedFile = generatedFile;
         this.textOutput = textOutput;
         this.sourceInfoConsumer = sourceInfoConsumer;
+        this.writer = writer;
     }
 
     @Override
     public File getOutFile() {
+        return getSourceMapFile(generatedFile);
+    }
+
+    @NotNull
+    public static File getSourceMapFile(@NotNull File generatedFile) {
         return new File(generatedFile.getParentFile(), generatedFile.getName() + ".map");
     }
 
     @Override
     public String build() {
+        assert writer == null : "Streamed source map can't be built in memory";
         StringBuilder sb = new StringBuilder(out.length() + (128 * orderedSources.size()));
         sb.append("{\"version\":3,\"file\":\"").append(generatedFile.getName()).append('"').append(',');
         appendSources(sb);
@@ -73,6 +103,40 @@ public class SourceMap3Builder implements SourceMapBuilder {
         return sb.toString();
     }
 
+    public void finish() {
+        assert writer != null : "Source map is not streamed";
+
+        StringBuilder sb = new StringBuilder(128 * orderedSources.size());
+        sb.append("\",");
+        appendSources(sb);
+        sb.append(",\"names\":[]}");
+
+        flushMappings();
+        write(sb);
+    }
+
+    private void flushMappings() {
+        assert writer != null : "Source map is not streamed";
+
+        if (!headerWritten) {
+            write("{\"version\":3,\"file\":\"" + generatedFile.getName() + "\",\"mappings\":\"");
+            headerWritten = true;
+        }
+        write(out);
+        out.setLength(0);
+    }
+
+    private void write(@NotNull CharSequence text) {
+        assert writer != null : "Source map is not streamed";
+
+        try {
+            writer.append(text);
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private void appendSources(StringBuilder sb) {
         boolean isNotFirst = false;
         sb.append('"').append("sources").append("\":[");
@@ -92,10 +156,14 @@ public class SourceMap3Builder implements SourceMapBuilder {
     public void newLine() {
         out.append(';');
         previousGeneratedColumn = -1;
+        if (writer != null && out.length() >= FLUSH_THRESHOLD) {
+            flushMappings();
+        }
     }
 
     @Override
     public void skipLinesAtBeginning(int count) {
+        assert !headerWritten : "Can't skip lines, mappings are already written";
         out.insert(0, StringUtil.repeatSymbol(';', count));
     }
 
@@ -346,6 +346,11 @@ public class TranslationContext {
         return staticContext.getProgram();
     }
 
+    @NotNull
+    public JsFunction getRootFunction() {
+        return staticContext.getRootFunction();
+    }
+
     @NotNull
     public JsConfig getConfig() {
         return staticContext.getConfig();
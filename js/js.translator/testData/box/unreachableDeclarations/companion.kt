@@ -0,0 +1,21 @@
+// REMOVE_UNREACHABLE_DECLARATIONS
+// CHECK_NOT_DECLARED: Unused
+// CHECK_NOT_DECLARED: Unused$Companion
+// CHECK_NOT_DECLARED: Unused$Companion_getInstance
+package foo
+
+private class Used(val value: String) {
+    companion object {
+        val prefix = "O"
+
+        fun create() = Used("K")
+    }
+}
+
+private class Unused {
+    companion object {
+        fun create() = Unused()
+    }
+}
+
+fun box() = Used.prefix + Used.create().value
@@ -0,0 +1,13 @@
+// REMOVE_UNREACHABLE_DECLARATIONS
+// CHECK_NOT_DECLARED: unused
+package foo
+
+private fun referencedFromJsCode() = "O"
+
+private class ReferencedFromJsCode {
+    fun k() = "K"
+}
+
+private fun unused() = referencedFromJsCode()
+
+fun box(): String = js("referencedFromJsCode() + new ReferencedFromJsCode().k()")
@@ -0,0 +1,8 @@
+// REMOVE_UNREACHABLE_DECLARATIONS
+// CHECK_NOT_DECLARED: privateInline
+// CHECK_NOT_CALLED: privateInline
+package foo
+
+private inline fun privateInline(f: () -> String) = f()
+
+fun box() = privateInline { "OK" }
@@ -0,0 +1,20 @@
+// MODULE: lib
+// FILE: lib.kt
+package lib
+
+fun usedFromLib() = "O"
+
+fun usedByUnreachable() = "fail"
+
+// MODULE: main(lib)
+// FILE: main.kt
+// REMOVE_UNREACHABLE_DECLARATIONS
+// CHECK_NOT_DECLARED: unreachable
+// PROPERTY_NOT_READ_FROM: usedByUnreachable
+package main
+
+import lib.*
+
+private fun unreachable() = usedByUnreachable()
+
+fun box() = usedFromLib() + "K"